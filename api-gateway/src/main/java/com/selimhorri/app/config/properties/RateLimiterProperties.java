@@ -0,0 +1,39 @@
+package com.selimhorri.app.config.properties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.selimhorri.app.ratelimit.InMemoryRateLimiter;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limiter")
+public class RateLimiterProperties {
+
+    /**
+     * Upper bound on tracked clients; the least recently seen lose their bucket first.
+     */
+    private long maximumKeys = 100_000;
+
+    /**
+     * Buckets untouched for this long are dropped. Anything past a full refill loses nothing.
+     */
+    private Duration idleExpiry = Duration.ofMinutes(5);
+
+    /**
+     * Proxies in front of the gateway whose X-Forwarded-For entries are trusted. With 0 the
+     * connection's remote address is used, since the header can be set by any client.
+     */
+    private int trustedProxies = 0;
+
+    /**
+     * Limits per route id, taking precedence over the filter arguments.
+     */
+    private Map<String, InMemoryRateLimiter.Config> routes = new HashMap<>();
+}
@@ -0,0 +1,21 @@
+package com.selimhorri.app.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.response-snapshot")
+public class ResponseSnapshotProperties {
+
+    private long maximumSize = 10_000;
+
+    /**
+     * Longest the circuit breaker fallback may serve a snapshot after it was taken.
+     */
+    private Duration retention = Duration.ofHours(1);
+}
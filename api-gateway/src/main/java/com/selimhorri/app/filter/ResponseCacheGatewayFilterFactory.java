@@ -0,0 +1,281 @@
+package com.selimhorri.app.filter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.selimhorri.app.snapshot.ResponseSnapshot;
+import com.selimhorri.app.snapshot.ResponseSnapshotStore;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Data;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-memory cache of successful GET responses, one cache per route the filter is applied to.
+ *
+ * <p>Entries live for the configured ttl, or less when the upstream sends a shorter
+ * {@code s-maxage}/{@code max-age}; {@code no-store}, {@code private}, {@code no-cache} and
+ * {@code Set-Cookie} keep a response out. Requests carrying {@code Authorization} are never
+ * answered from the cache, as a shared cache must not. Concurrent misses for one key wait for
+ * the first of them instead of each going upstream. Whatever is cached is also kept in the
+ * {@link ResponseSnapshotStore} for the circuit breaker fallback.
+ */
+@Component
+public class ResponseCacheGatewayFilterFactory
+		extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+	
+	private static final Set<String> UNCACHED_HEADERS = Set.of(
+			HttpHeaders.CONNECTION.toLowerCase(Locale.ROOT),
+			HttpHeaders.TRANSFER_ENCODING.toLowerCase(Locale.ROOT),
+			HttpHeaders.CONTENT_LENGTH.toLowerCase(Locale.ROOT),
+			HttpHeaders.DATE.toLowerCase(Locale.ROOT),
+			HttpHeaders.AGE.toLowerCase(Locale.ROOT));
+	
+	private final ResponseSnapshotStore responseSnapshotStore;
+	
+	public ResponseCacheGatewayFilterFactory(final ResponseSnapshotStore responseSnapshotStore) {
+		super(Config.class);
+		this.responseSnapshotStore = responseSnapshotStore;
+	}
+	
+	@Override
+	public List<String> shortcutFieldOrder() {
+		return List.of("maximumSize", "ttl");
+	}
+	
+	@Override
+	public GatewayFilter apply(final Config config) {
+		return new ResponseCacheGatewayFilter(config, this.responseSnapshotStore);
+	}
+	
+	@Data
+	public static class Config {
+		private String name = "gateway";
+		private long maximumSize = 1_000;
+		private Duration ttl = Duration.ofSeconds(30);
+	}
+	
+	private static final class ResponseCacheGatewayFilter implements GatewayFilter {
+		
+		private final Duration ttl;
+		private final ResponseSnapshotStore responseSnapshotStore;
+		private final Cache<String, ResponseSnapshot> cache;
+		private final ConcurrentMap<String, CompletableFuture<Optional<ResponseSnapshot>>> inFlight = new ConcurrentHashMap<>();
+		
+		ResponseCacheGatewayFilter(final Config config, final ResponseSnapshotStore responseSnapshotStore) {
+			this.ttl = config.getTtl();
+			this.responseSnapshotStore = responseSnapshotStore;
+			this.cache = Caffeine.newBuilder()
+					.maximumSize(config.getMaximumSize())
+					.expireAfter(new Expiry<String, ResponseSnapshot>() {
+						@Override
+						public long expireAfterCreate(final String key, final ResponseSnapshot value, final long currentTime) {
+							return value.getTtl().toNanos();
+						}
+						@Override
+						public long expireAfterUpdate(final String key, final ResponseSnapshot value,
+								final long currentTime, final long currentDuration) {
+							return value.getTtl().toNanos();
+						}
+						@Override
+						public long expireAfterRead(final String key, final ResponseSnapshot value,
+								final long currentTime, final long currentDuration) {
+							return currentDuration;
+						}
+					})
+					.recordStats()
+					.build();
+			CaffeineCacheMetrics.monitor(Metrics.globalRegistry, this.cache, config.getName() + ".responseCache");
+		}
+		
+		@Override
+		public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+			
+			final ServerHttpRequest request = exchange.getRequest();
+			final List<String> requestDirectives = directives(request.getHeaders());
+			if (request.getMethod() != HttpMethod.GET
+					|| request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)
+					|| requestDirectives.contains("no-store"))
+				return chain.filter(exchange);
+			
+			final String key = ResponseSnapshotStore.key(exchange);
+			final boolean revalidate = requestDirectives.contains("no-cache") || requestDirectives.contains("max-age=0");
+			return Mono.defer(() -> lookup(exchange, chain, key, revalidate));
+		}
+		
+		/**
+		 * Runs on subscription, so a leader is only registered for a request that will
+		 * actually reach the upstream and release it again.
+		 */
+		private Mono<Void> lookup(final ServerWebExchange exchange, final GatewayFilterChain chain,
+				final String key, final boolean revalidate) {
+			
+			if (!revalidate) {
+				final ResponseSnapshot cached = this.cache.getIfPresent(key);
+				if (cached != null)
+					return write(exchange, cached);
+			}
+			
+			final var leader = new CompletableFuture<Optional<ResponseSnapshot>>();
+			final var running = this.inFlight.putIfAbsent(key, leader);
+			if (running != null && !revalidate)
+				return Mono.fromFuture(running)
+						.flatMap(cached -> cached
+								.map(response -> write(exchange, response))
+								.orElseGet(() -> chain.filter(exchange)));
+			
+			return chain.filter(exchange.mutate()
+						.response(new CachingResponse(exchange.getResponse(), key, leader))
+						.build())
+					.doFinally(signal -> {
+						leader.complete(Optional.empty());
+						this.inFlight.remove(key, leader);
+					});
+		}
+		
+		private Mono<Void> write(final ServerWebExchange exchange, final ResponseSnapshot cached) {
+			
+			final ServerHttpResponse response = exchange.getResponse();
+			final String etag = cached.getHeaders().getETag();
+			if (etag != null && exchange.checkNotModified(etag))
+				return response.setComplete();
+			
+			response.setStatusCode(cached.getStatus());
+			cached.getHeaders().forEach(response.getHeaders()::putIfAbsent);
+			response.getHeaders().setContentLength(cached.getBody().length);
+			response.getHeaders().set(HttpHeaders.AGE,
+					String.valueOf(cached.getAgeSeconds()));
+			return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.getBody())));
+		}
+		
+		/**
+		 * Returns how long the current response may be cached, or empty when it may not.
+		 */
+		private Optional<Duration> cacheableFor(final ServerHttpResponse response) {
+			
+			final HttpHeaders headers = response.getHeaders();
+			if (response.getStatusCode() != HttpStatus.OK
+					|| headers.containsKey(HttpHeaders.SET_COOKIE)
+					|| headers.getContentType() == null
+					|| !MediaType.APPLICATION_JSON.isCompatibleWith(headers.getContentType()))
+				return Optional.empty();
+			
+			final List<String> responseDirectives = directives(headers);
+			if (responseDirectives.contains("no-store")
+					|| responseDirectives.contains("private")
+					|| responseDirectives.contains("no-cache"))
+				return Optional.empty();
+			
+			final Duration maxAge = maxAge(responseDirectives, "s-maxage=")
+					.or(() -> maxAge(responseDirectives, "max-age="))
+					.map(upstream -> upstream.compareTo(this.ttl) < 0 ? upstream : this.ttl)
+					.orElse(this.ttl);
+			return maxAge.isZero() || maxAge.isNegative() ? Optional.empty() : Optional.of(maxAge);
+		}
+		
+		private final class CachingResponse extends ServerHttpResponseDecorator {
+			
+			private final String key;
+			private final CompletableFuture<Optional<ResponseSnapshot>> leader;
+			
+			CachingResponse(final ServerHttpResponse delegate, final String key,
+					final CompletableFuture<Optional<ResponseSnapshot>> leader) {
+				super(delegate);
+				this.key = key;
+				this.leader = leader;
+			}
+			
+			@Override
+			public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+				
+				final Optional<Duration> entryTtl = cacheableFor(getDelegate());
+				if (entryTtl.isEmpty())
+					return super.writeWith(body);
+				
+				return DataBufferUtils.join(Flux.from(body))
+						.flatMap(joined -> {
+							final byte[] bytes = new byte[joined.readableByteCount()];
+							joined.read(bytes);
+							DataBufferUtils.release(joined);
+							
+							final HttpHeaders headers = new HttpHeaders();
+							getDelegate().getHeaders().forEach((name, values) -> {
+								final String lowerCaseName = name.toLowerCase(Locale.ROOT);
+								if (!UNCACHED_HEADERS.contains(lowerCaseName) && !lowerCaseName.startsWith("access-control-"))
+									headers.put(name, List.copyOf(values));
+							});
+							final var cached = new ResponseSnapshot(HttpStatus.OK, HttpHeaders.readOnlyHttpHeaders(headers),
+									bytes, Instant.now(), entryTtl.get());
+							cache.put(this.key, cached);
+							responseSnapshotStore.put(this.key, cached);
+							this.leader.complete(Optional.of(cached));
+							
+							return getDelegate().writeWith(Mono.just(bufferFactory().wrap(bytes)));
+						});
+			}
+		
+		}
+	
+	}
+	
+	private static List<String> directives(final HttpHeaders headers) {
+		final String cacheControl = String.join(",", headers.getOrEmpty(HttpHeaders.CACHE_CONTROL));
+		return cacheControl.isBlank()
+				? List.of()
+				: List.of(cacheControl.toLowerCase(Locale.ROOT).replace(" ", "").split(","));
+	}
+	
+	private static Optional<Duration> maxAge(final List<String> directives, final String prefix) {
+		return directives.stream()
+				.filter(directive -> directive.startsWith(prefix))
+				.findFirst()
+				.flatMap(directive -> {
+					try {
+						return Optional.of(Duration.ofSeconds(Long.parseLong(directive.substring(prefix.length()))));
+					}
+					catch (final NumberFormatException e) {
+						return Optional.empty();
+					}
+				});
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
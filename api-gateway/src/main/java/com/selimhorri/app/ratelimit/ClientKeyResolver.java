@@ -0,0 +1,56 @@
+package com.selimhorri.app.ratelimit;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Optional;
+
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.selimhorri.app.config.properties.RateLimiterProperties;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Keys requests by client address. The bearer token is not used: its signature is only
+ * verified behind the gateway, so keying on its subject would let a client mint fresh buckets
+ * and push real clients' buckets out of the bounded key cache.
+ *
+ * <p>With {@code trusted-proxies} set, the address is taken from the X-Forwarded-For entry
+ * appended by the outermost trusted proxy rather than from the connection.
+ */
+@Component("clientKeyResolver")
+public class ClientKeyResolver implements KeyResolver {
+	
+	private final RemoteAddressResolver remoteAddressResolver;
+	
+	public ClientKeyResolver(final RateLimiterProperties properties) {
+		this.remoteAddressResolver = properties.getTrustedProxies() > 0 
+				? XForwardedRemoteAddressResolver.maxTrustedIndex(properties.getTrustedProxies()) 
+				: new RemoteAddressResolver() {};
+	}
+	
+	@Override
+	public Mono<String> resolve(final ServerWebExchange exchange) {
+		return Mono.just("ip:" + Optional.ofNullable(this.remoteAddressResolver.resolve(exchange))
+				.map(InetSocketAddress::getAddress)
+				.map(InetAddress::getHostAddress)
+				.orElse("unknown"));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,104 @@
+package com.selimhorri.app.ratelimit;
+
+import java.util.Map;
+
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.route.RouteDefinitionRouteLocator;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.properties.RateLimiterProperties;
+
+import io.micrometer.core.instrument.Metrics;
+import lombok.Data;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rate limiter for the RequestRateLimiter filter that keeps its token buckets in this
+ * instance's memory instead of Redis, so each gateway replica enforces its own share.
+ *
+ * <p>Limits come from {@code app.rate-limiter.routes.<routeId>}, then from the filter's
+ * {@code in-memory-rate-limiter.*} arguments on the route or in the default filters.
+ */
+@Component
+public class InMemoryRateLimiter extends AbstractRateLimiter<InMemoryRateLimiter.Config> {
+	
+	public static final String CONFIGURATION_PROPERTY_NAME = "in-memory-rate-limiter";
+	
+	private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+	private static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+	private static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+	
+	private final Config defaultLimit = new Config();
+	private final RateLimiterProperties properties;
+	private final Cache<String, TokenBucket> buckets;
+	
+	public InMemoryRateLimiter(final ConfigurationService configurationService, final RateLimiterProperties properties) {
+		super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+		this.properties = properties;
+		this.buckets = Caffeine.newBuilder()
+				.maximumSize(properties.getMaximumKeys())
+				.expireAfterAccess(properties.getIdleExpiry())
+				.build();
+	}
+	
+	@Override
+	public Mono<Response> isAllowed(final String routeId, final String id) {
+		
+		final Config config = limitFor(routeId);
+		final long now = System.nanoTime();
+		final long remaining = this.buckets
+				.get(routeId + "|" + id, key -> new TokenBucket(now))
+				.tryAcquire(config.getReplenishRate(), config.getBurstCapacity(), config.getRequestedTokens(), now);
+		
+		if (remaining < 0)
+			Metrics.counter("gateway.requests.rate.limited", "routeId", routeId).increment();
+		
+		return Mono.just(new Response(remaining >= 0, Map.of(
+				REMAINING_HEADER, String.valueOf(Math.max(remaining, 0)),
+				REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()),
+				BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()))));
+	}
+	
+	Config limitFor(final String routeId) {
+		final Config configured = this.properties.getRoutes().get(routeId);
+		if (configured != null)
+			return configured;
+		final Config routeArgs = getConfig().get(routeId);
+		if (routeArgs != null)
+			return routeArgs;
+		return getConfig().getOrDefault(RouteDefinitionRouteLocator.DEFAULT_FILTERS, this.defaultLimit);
+	}
+	
+	@Data
+	public static class Config {
+		
+		/**
+		 * Tokens added per second, i.e. the sustained request rate.
+		 */
+		private int replenishRate = 50;
+		
+		/**
+		 * Tokens the bucket holds, i.e. the largest burst admitted at once.
+		 */
+		private int burstCapacity = 100;
+		
+		private int requestedTokens = 1;
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,48 @@
+package com.selimhorri.app.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as a single theoretical arrival time (GCRA), so taking a token is one
+ * compare-and-set with no lock and no refill timer.
+ */
+final class TokenBucket {
+	
+	private final AtomicLong theoreticalArrivalNanos;
+	
+	TokenBucket(final long nowNanos) {
+		this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+	}
+	
+	/**
+	 * Returns the tokens left after taking {@code requestedTokens}, or -1 when the bucket
+	 * cannot cover them; a rejected request leaves the bucket untouched.
+	 */
+	long tryAcquire(final int replenishRate, final int burstCapacity, final int requestedTokens, final long nowNanos) {
+		
+		final long emissionIntervalNanos = 1_000_000_000L / Math.max(replenishRate, 1);
+		final long toleranceNanos = emissionIntervalNanos * burstCapacity;
+		
+		while (true) {
+			final long theoreticalArrival = this.theoreticalArrivalNanos.get();
+			final long next = Math.max(theoreticalArrival, nowNanos) + emissionIntervalNanos * requestedTokens;
+			if (next - nowNanos > toleranceNanos)
+				return -1;
+			if (this.theoreticalArrivalNanos.compareAndSet(theoreticalArrival, next))
+				return (toleranceNanos - (next - nowNanos)) / emissionIntervalNanos;
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,65 @@
+package com.selimhorri.app.resource;
+
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.selimhorri.app.snapshot.ResponseSnapshotStore;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/fallback")
+@Slf4j
+@RequiredArgsConstructor
+public class FallbackResource {
+	
+	static final String STALE_WARNING = "110 - \"Response is Stale\"";
+	
+	private final ResponseSnapshotStore responseSnapshotStore;
+	
+	/**
+	 * Serves the last good snapshot of a product GET, marked stale and not cacheable downstream.
+	 * Anything without a snapshot, writes included, gets a 503 rather than a made-up body.
+	 */
+	@RequestMapping("/product")
+	public Mono<ResponseEntity<byte[]>> product(final ServerWebExchange exchange) {
+		
+		final Throwable cause = exchange.getAttribute(ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR);
+		log.warn("*** Product fallback, resource; circuit breaker tripped by {} *", 
+				cause == null ? "unknown cause" : cause.toString());
+		
+		if (exchange.getRequest().getMethod() != HttpMethod.GET)
+			return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+		
+		return Mono.just(this.responseSnapshotStore.get(ResponseSnapshotStore.key(exchange))
+				.map(snapshot -> ResponseEntity.status(snapshot.getStatus())
+						.headers(snapshot.getHeaders())
+						.header(HttpHeaders.AGE, String.valueOf(snapshot.getAgeSeconds()))
+						.header(HttpHeaders.WARNING, STALE_WARNING)
+						.cacheControl(CacheControl.noStore())
+						.body(snapshot.getBody()))
+				.orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build()));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
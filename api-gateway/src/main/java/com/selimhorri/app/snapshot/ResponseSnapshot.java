@@ -0,0 +1,40 @@
+package com.selimhorri.app.snapshot;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import lombok.Value;
+
+@Value
+public class ResponseSnapshot {
+	
+	HttpStatus status;
+	HttpHeaders headers;
+	byte[] body;
+	Instant storedAt;
+	
+	/**
+	 * How long the snapshot may be served as fresh.
+	 */
+	Duration ttl;
+	
+	public long getAgeSeconds() {
+		return Duration.between(this.storedAt, Instant.now()).toSeconds();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,74 @@
+package com.selimhorri.app.snapshot;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.properties.ResponseSnapshotProperties;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Last successful response per request, kept well past its freshness so the circuit
+ * breaker fallback has something to serve while the upstream is unavailable.
+ */
+@Component
+public class ResponseSnapshotStore {
+	
+	private final Cache<String, ResponseSnapshot> snapshots;
+	
+	public ResponseSnapshotStore(final ResponseSnapshotProperties properties) {
+		this.snapshots = Caffeine.newBuilder()
+				.maximumSize(properties.getMaximumSize())
+				.expireAfterWrite(properties.getRetention())
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(Metrics.globalRegistry, this.snapshots, "responseSnapshots");
+	}
+	
+	public void put(final String key, final ResponseSnapshot snapshot) {
+		this.snapshots.put(key, snapshot);
+	}
+	
+	public Optional<ResponseSnapshot> get(final String key) {
+		return Optional.ofNullable(this.snapshots.getIfPresent(key));
+	}
+	
+	/**
+	 * Keys on the URL the client asked for, before route filters such as StripPrefix or a
+	 * fallback forward rewrote it, so the route and its fallback agree on the key.
+	 */
+	public static String key(final ServerWebExchange exchange) {
+		final Set<URI> originalUrls = exchange.getAttributeOrDefault(
+				ServerWebExchangeUtils.GATEWAY_ORIGINAL_REQUEST_URL_ATTR, Set.of());
+		final URI uri = originalUrls.isEmpty() 
+				? exchange.getRequest().getURI() 
+				: originalUrls.iterator().next();
+		final HttpHeaders headers = exchange.getRequest().getHeaders();
+		return uri.getRawPath()
+				+ "?" + Optional.ofNullable(uri.getRawQuery()).orElse("")
+				+ "|" + String.join(",", headers.getOrEmpty(HttpHeaders.ACCEPT))
+				+ "|" + String.join(",", headers.getOrEmpty(HttpHeaders.ACCEPT_ENCODING));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,120 @@
+package com.selimhorri.app.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.selimhorri.app.config.properties.ResponseSnapshotProperties;
+import com.selimhorri.app.snapshot.ResponseSnapshotStore;
+
+import reactor.core.publisher.Mono;
+
+class ResponseCacheGatewayFilterFactoryTest {
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private ResponseSnapshotStore responseSnapshotStore;
+
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        this.responseSnapshotStore = new ResponseSnapshotStore(new ResponseSnapshotProperties());
+        this.filter = new ResponseCacheGatewayFilterFactory(this.responseSnapshotStore)
+                .apply(new ResponseCacheGatewayFilterFactory.Config());
+    }
+
+    @Test
+    void filter_ShouldServeRepeatedGetFromCache() {
+        // given
+        GatewayFilterChain chain = upstream(null, Duration.ZERO);
+        this.filter.filter(exchange(), chain).block();
+
+        // when
+        MockServerWebExchange second = exchange();
+        this.filter.filter(second, chain).block();
+
+        // then
+        assertEquals(1, this.upstreamCalls.get());
+        assertEquals(HttpStatus.OK, second.getResponse().getStatusCode());
+        assertEquals("{\"collection\":[]}", second.getResponse().getBodyAsString().block());
+        assertNotNull(second.getResponse().getHeaders().getFirst(HttpHeaders.AGE));
+        assertTrue(this.responseSnapshotStore.get(ResponseSnapshotStore.key(second)).isPresent());
+    }
+
+    @Test
+    void filter_ShouldNotStoreNoStoreResponses() {
+        // given
+        GatewayFilterChain chain = upstream("no-store", Duration.ZERO);
+
+        // when
+        this.filter.filter(exchange(), chain).block();
+        this.filter.filter(exchange(), chain).block();
+
+        // then
+        assertEquals(2, this.upstreamCalls.get());
+    }
+
+    @Test
+    void filter_ShouldBypassCacheForAuthorizedRequests() {
+        // given
+        GatewayFilterChain chain = upstream(null, Duration.ZERO);
+        this.filter.filter(exchange(), chain).block();
+
+        // when
+        this.filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/products")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token")), chain).block();
+
+        // then
+        assertEquals(2, this.upstreamCalls.get());
+    }
+
+    @Test
+    void filter_ShouldCollapseConcurrentMissesIntoOneUpstreamCall() {
+        // given
+        GatewayFilterChain chain = upstream(null, Duration.ofMillis(200));
+        MockServerWebExchange first = exchange();
+        MockServerWebExchange second = exchange();
+
+        // when
+        Mono.when(this.filter.filter(first, chain), this.filter.filter(second, chain)).block();
+
+        // then
+        assertEquals(1, this.upstreamCalls.get());
+        assertEquals(first.getResponse().getBodyAsString().block(), second.getResponse().getBodyAsString().block());
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/api/products")
+                .accept(MediaType.APPLICATION_JSON));
+    }
+
+    private GatewayFilterChain upstream(final String cacheControl, final Duration latency) {
+        return exchange -> {
+            this.upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            if (cacheControl != null) {
+                response.getHeaders().setCacheControl(cacheControl);
+            }
+            return Mono.delay(latency)
+                    .then(response.writeWith(Mono.fromSupplier(() -> response.bufferFactory()
+                            .wrap("{\"collection\":[]}".getBytes(StandardCharsets.UTF_8)))));
+        };
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.selimhorri.app.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetSocketAddress;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.selimhorri.app.config.properties.RateLimiterProperties;
+
+class ClientKeyResolverTest {
+
+    private static final String UNSIGNED_TOKEN = "eyJhbGciOiJub25lIn0.eyJzdWIiOiJmb3JnZWQifQ.";
+
+    @Test
+    void resolve_ShouldKeyOnRemoteAddressAndIgnoreBearerSubject() {
+        // given
+        ClientKeyResolver resolver = new ClientKeyResolver(new RateLimiterProperties());
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/order-service/api/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + UNSIGNED_TOKEN));
+
+        // when
+        String key = resolver.resolve(exchange).block();
+
+        // then
+        assertEquals("ip:10.0.0.7", key);
+    }
+
+    @Test
+    void resolve_WithoutTrustedProxies_ShouldIgnoreForwardedFor() {
+        // given
+        ClientKeyResolver resolver = new ClientKeyResolver(new RateLimiterProperties());
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/order-service/api/orders")
+                .header("X-Forwarded-For", "203.0.113.9"));
+
+        // when
+        String key = resolver.resolve(exchange).block();
+
+        // then
+        assertEquals("ip:10.0.0.7", key);
+    }
+
+    @Test
+    void resolve_WithTrustedProxy_ShouldUseAddressAppendedByProxy() {
+        // given
+        RateLimiterProperties properties = new RateLimiterProperties();
+        properties.setTrustedProxies(1);
+        ClientKeyResolver resolver = new ClientKeyResolver(properties);
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/order-service/api/orders")
+                .header("X-Forwarded-For", "198.51.100.1, 203.0.113.9"));
+
+        // when
+        String key = resolver.resolve(exchange).block();
+
+        // then
+        assertEquals("ip:203.0.113.9", key);
+    }
+
+    @Test
+    void resolve_WithoutRemoteAddress_ShouldShareUnknownKey() {
+        // given
+        ClientKeyResolver resolver = new ClientKeyResolver(new RateLimiterProperties());
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/order-service/api/orders"));
+
+        // when
+        String key = resolver.resolve(exchange).block();
+
+        // then
+        assertEquals("ip:unknown", key);
+    }
+
+    private static MockServerWebExchange exchange(final MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request.remoteAddress(new InetSocketAddress("10.0.0.7", 51234)));
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.selimhorri.app.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.RouteDefinitionRouteLocator;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+
+import com.selimhorri.app.config.properties.RateLimiterProperties;
+
+class InMemoryRateLimiterTest {
+
+    private RateLimiterProperties properties;
+
+    private InMemoryRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        this.properties = new RateLimiterProperties();
+        this.rateLimiter = new InMemoryRateLimiter(mock(ConfigurationService.class), this.properties);
+    }
+
+    @Test
+    void limitFor_ShouldPreferConfiguredRouteOverFilterArguments() {
+        // given
+        this.properties.getRoutes().put("PRODUCT-SERVICE", config(200, 400));
+        this.rateLimiter.getConfig().put("PRODUCT-SERVICE", config(20, 40));
+
+        // when
+        InMemoryRateLimiter.Config limit = this.rateLimiter.limitFor("PRODUCT-SERVICE");
+
+        // then
+        assertEquals(200, limit.getReplenishRate());
+        assertEquals(400, limit.getBurstCapacity());
+    }
+
+    @Test
+    void limitFor_ShouldUseRouteArgumentsOverDefaultFilters() {
+        // given
+        this.rateLimiter.getConfig().put("ORDER-SERVICE", config(20, 40));
+        this.rateLimiter.getConfig().put(RouteDefinitionRouteLocator.DEFAULT_FILTERS, config(5, 10));
+
+        // when
+        InMemoryRateLimiter.Config limit = this.rateLimiter.limitFor("ORDER-SERVICE");
+
+        // then
+        assertEquals(20, limit.getReplenishRate());
+        assertEquals(40, limit.getBurstCapacity());
+    }
+
+    @Test
+    void limitFor_ShouldFallBackToDefaultFilterArguments() {
+        // given
+        this.rateLimiter.getConfig().put(RouteDefinitionRouteLocator.DEFAULT_FILTERS, config(5, 10));
+
+        // when
+        InMemoryRateLimiter.Config limit = this.rateLimiter.limitFor("ORDER-SERVICE");
+
+        // then
+        assertEquals(5, limit.getReplenishRate());
+        assertEquals(10, limit.getBurstCapacity());
+    }
+
+    @Test
+    void limitFor_WithNothingConfigured_ShouldUseBuiltInDefaults() {
+        // when
+        InMemoryRateLimiter.Config limit = this.rateLimiter.limitFor("ORDER-SERVICE");
+
+        // then
+        assertEquals(50, limit.getReplenishRate());
+        assertEquals(100, limit.getBurstCapacity());
+        assertEquals(1, limit.getRequestedTokens());
+    }
+
+    private static InMemoryRateLimiter.Config config(final int replenishRate, final int burstCapacity) {
+        InMemoryRateLimiter.Config config = new InMemoryRateLimiter.Config();
+        config.setReplenishRate(replenishRate);
+        config.setBurstCapacity(burstCapacity);
+        return config;
+    }
+
+}
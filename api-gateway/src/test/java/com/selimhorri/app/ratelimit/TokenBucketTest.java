@@ -0,0 +1,81 @@
+package com.selimhorri.app.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryAcquire_ShouldAdmitBurstThenReject() {
+        // given
+        TokenBucket bucket = new TokenBucket(0);
+
+        // when
+        long first = bucket.tryAcquire(10, 5, 1, 0);
+        for (int i = 0; i < 4; i++) {
+            bucket.tryAcquire(10, 5, 1, 0);
+        }
+        long rejected = bucket.tryAcquire(10, 5, 1, 0);
+
+        // then
+        assertEquals(4, first);
+        assertEquals(-1, rejected);
+    }
+
+    @Test
+    void tryAcquire_ShouldRefillAtReplenishRate() {
+        // given
+        TokenBucket bucket = new TokenBucket(0);
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire(10, 5, 1, 0);
+        }
+
+        // when
+        long afterTenthOfSecond = bucket.tryAcquire(10, 5, 1, SECOND / 10);
+        long immediatelyAfter = bucket.tryAcquire(10, 5, 1, SECOND / 10);
+
+        // then
+        assertEquals(0, afterTenthOfSecond);
+        assertEquals(-1, immediatelyAfter);
+    }
+
+    @Test
+    void tryAcquire_UnderContention_ShouldNeverAdmitMoreThanCapacity() throws InterruptedException {
+        // given
+        TokenBucket bucket = new TokenBucket(0);
+        AtomicInteger admitted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (bucket.tryAcquire(10, 100, 1, 0) >= 0) {
+                    admitted.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(100, admitted.get());
+    }
+
+}
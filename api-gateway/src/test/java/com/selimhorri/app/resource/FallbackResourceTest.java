@@ -0,0 +1,77 @@
+package com.selimhorri.app.resource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.selimhorri.app.config.properties.ResponseSnapshotProperties;
+import com.selimhorri.app.snapshot.ResponseSnapshot;
+import com.selimhorri.app.snapshot.ResponseSnapshotStore;
+
+class FallbackResourceTest {
+
+    private ResponseSnapshotStore responseSnapshotStore;
+
+    private FallbackResource fallbackResource;
+
+    @BeforeEach
+    void setUp() {
+        this.responseSnapshotStore = new ResponseSnapshotStore(new ResponseSnapshotProperties());
+        this.fallbackResource = new FallbackResource(this.responseSnapshotStore);
+    }
+
+    @Test
+    void product_WithSnapshot_ShouldServeItMarkedStale() {
+        // given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/products/1"));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setCacheControl("max-age=30");
+        this.responseSnapshotStore.put(ResponseSnapshotStore.key(exchange), new ResponseSnapshot(HttpStatus.OK, headers,
+                "{\"productId\":1}".getBytes(StandardCharsets.UTF_8), Instant.now().minusSeconds(90), Duration.ofSeconds(30)));
+
+        // when
+        ResponseEntity<byte[]> response = this.fallbackResource.product(exchange).block();
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(FallbackResource.STALE_WARNING, response.getHeaders().getFirst(HttpHeaders.WARNING));
+        assertTrue(Long.parseLong(response.getHeaders().getFirst(HttpHeaders.AGE)) >= 90);
+        assertEquals("no-store", response.getHeaders().getCacheControl());
+        assertEquals("{\"productId\":1}", new String(response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void product_WithoutSnapshot_ShouldReturnServiceUnavailable() {
+        // when
+        ResponseEntity<byte[]> response = this.fallbackResource
+                .product(MockServerWebExchange.from(MockServerHttpRequest.get("/api/products/2")))
+                .block();
+
+        // then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+    }
+
+    @Test
+    void product_ForWrites_ShouldReturnServiceUnavailable() {
+        // when
+        ResponseEntity<byte[]> response = this.fallbackResource
+                .product(MockServerWebExchange.from(MockServerHttpRequest.post("/api/products")))
+                .block();
+
+        // then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+    }
+
+}
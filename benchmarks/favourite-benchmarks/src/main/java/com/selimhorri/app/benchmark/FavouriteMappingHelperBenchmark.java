@@ -0,0 +1,110 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import java.time.LocalDateTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.selimhorri.app.domain.Favourite;
+import com.selimhorri.app.dto.FavouriteDto;
+import com.selimhorri.app.helper.FavouriteMappingHelper;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FavouriteMappingHelperBenchmark {
+	
+	private Favourite favourite;
+	private FavouriteDto favouriteDto;
+	
+	@Setup
+	public void setUp() {
+		this.favourite = favourite(1);
+		this.favouriteDto = FavouriteMappingHelper.map(this.favourite);
+	}
+	
+	@Benchmark
+	public FavouriteDto mapToDto() {
+		return FavouriteMappingHelper.map(this.favourite);
+	}
+	
+	@Benchmark
+	public Favourite mapToEntity() {
+		return FavouriteMappingHelper.map(this.favouriteDto);
+	}
+	
+	/**
+	 * Same map, distinct and collect pipeline as {@code FavouriteServiceImpl#findAll}.
+	 */
+	@Benchmark
+	public List<FavouriteDto> findAll(final Rows rows) {
+		return rows.favourites.stream()
+				.map(FavouriteMappingHelper::map)
+				.distinct()
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * Baseline for {@link #findAll(Rows)}; the difference between the two is the cost of {@code distinct()}.
+	 */
+	@Benchmark
+	public List<FavouriteDto> findAllWithoutDistinct(final Rows rows) {
+		return rows.favourites.stream()
+				.map(FavouriteMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	static Favourite favourite(final int id) {
+		return Favourite.builder()
+				.userId(id % 100)
+				.productId(id)
+				.likeDate(LocalDateTime.of(2022, 1, 1, 12, 0).plusMinutes(id))
+				.build();
+	}
+	
+	@State(Scope.Benchmark)
+	public static class Rows {
+		
+		@Param({"10", "1000", "100000"})
+		public int size;
+		
+		List<Favourite> favourites;
+		
+		@Setup
+		public void setUp() {
+			this.favourites = IntStream.rangeClosed(1, this.size)
+					.mapToObj(FavouriteMappingHelperBenchmark::favourite)
+					.collect(Collectors.toUnmodifiableList());
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,107 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.selimhorri.app.domain.Cart;
+import com.selimhorri.app.dto.CartDto;
+import com.selimhorri.app.helper.CartMappingHelper;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CartMappingHelperBenchmark {
+	
+	private Cart cart;
+	private CartDto cartDto;
+	
+	@Setup
+	public void setUp() {
+		this.cart = cart(1);
+		this.cartDto = CartMappingHelper.map(this.cart);
+	}
+	
+	@Benchmark
+	public CartDto mapToDto() {
+		return CartMappingHelper.map(this.cart);
+	}
+	
+	@Benchmark
+	public Cart mapToEntity() {
+		return CartMappingHelper.map(this.cartDto);
+	}
+	
+	/**
+	 * Same map, distinct and collect pipeline as {@code CartServiceImpl#findAll}.
+	 */
+	@Benchmark
+	public List<CartDto> findAll(final Rows rows) {
+		return rows.carts.stream()
+				.map(CartMappingHelper::map)
+				.distinct()
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * Baseline for {@link #findAll(Rows)}; the difference between the two is the cost of {@code distinct()}.
+	 */
+	@Benchmark
+	public List<CartDto> findAllWithoutDistinct(final Rows rows) {
+		return rows.carts.stream()
+				.map(CartMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	static Cart cart(final int id) {
+		return Cart.builder()
+				.cartId(id)
+				.userId(id % 100)
+				.build();
+	}
+	
+	@State(Scope.Benchmark)
+	public static class Rows {
+		
+		@Param({"10", "1000", "100000"})
+		public int size;
+		
+		List<Cart> carts;
+		
+		@Setup
+		public void setUp() {
+			this.carts = IntStream.rangeClosed(1, this.size)
+					.mapToObj(CartMappingHelperBenchmark::cart)
+					.collect(Collectors.toUnmodifiableList());
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
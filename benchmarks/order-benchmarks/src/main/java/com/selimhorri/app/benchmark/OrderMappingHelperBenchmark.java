@@ -0,0 +1,115 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import java.time.LocalDateTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.selimhorri.app.domain.Cart;
+import com.selimhorri.app.domain.Order;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.helper.OrderMappingHelper;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderMappingHelperBenchmark {
+	
+	private Order order;
+	private OrderDto orderDto;
+	
+	@Setup
+	public void setUp() {
+		this.order = order(1);
+		this.orderDto = OrderMappingHelper.map(this.order);
+	}
+	
+	@Benchmark
+	public OrderDto mapToDto() {
+		return OrderMappingHelper.map(this.order);
+	}
+	
+	@Benchmark
+	public Order mapToEntity() {
+		return OrderMappingHelper.map(this.orderDto);
+	}
+	
+	/**
+	 * Same map, distinct and collect pipeline as {@code OrderServiceImpl#findAll}.
+	 */
+	@Benchmark
+	public List<OrderDto> findAll(final Rows rows) {
+		return rows.orders.stream()
+				.map(OrderMappingHelper::map)
+				.distinct()
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * Baseline for {@link #findAll(Rows)}; the difference between the two is the cost of {@code distinct()}.
+	 */
+	@Benchmark
+	public List<OrderDto> findAllWithoutDistinct(final Rows rows) {
+		return rows.orders.stream()
+				.map(OrderMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	static Order order(final int id) {
+		return Order.builder()
+				.orderId(id)
+				.orderDate(LocalDateTime.of(2022, 1, 1, 12, 0).plusMinutes(id))
+				.orderDesc("Order " + id)
+				.orderFee(120.5)
+				.cart(Cart.builder()
+						.cartId(id % 100)
+						.build())
+				.build();
+	}
+	
+	@State(Scope.Benchmark)
+	public static class Rows {
+		
+		@Param({"10", "1000", "100000"})
+		public int size;
+		
+		List<Order> orders;
+		
+		@Setup
+		public void setUp() {
+			this.orders = IntStream.rangeClosed(1, this.size)
+					.mapToObj(OrderMappingHelperBenchmark::order)
+					.collect(Collectors.toUnmodifiableList());
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,110 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.selimhorri.app.domain.Payment;
+import com.selimhorri.app.domain.PaymentStatus;
+import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.helper.PaymentMappingHelper;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaymentMappingHelperBenchmark {
+	
+	private Payment payment;
+	private PaymentDto paymentDto;
+	
+	@Setup
+	public void setUp() {
+		this.payment = payment(1);
+		this.paymentDto = PaymentMappingHelper.map(this.payment);
+	}
+	
+	@Benchmark
+	public PaymentDto mapToDto() {
+		return PaymentMappingHelper.map(this.payment);
+	}
+	
+	@Benchmark
+	public Payment mapToEntity() {
+		return PaymentMappingHelper.map(this.paymentDto);
+	}
+	
+	/**
+	 * Same map, distinct and collect pipeline as {@code PaymentServiceImpl#findAll}.
+	 */
+	@Benchmark
+	public List<PaymentDto> findAll(final Rows rows) {
+		return rows.payments.stream()
+				.map(PaymentMappingHelper::map)
+				.distinct()
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * Baseline for {@link #findAll(Rows)}; the difference between the two is the cost of {@code distinct()}.
+	 */
+	@Benchmark
+	public List<PaymentDto> findAllWithoutDistinct(final Rows rows) {
+		return rows.payments.stream()
+				.map(PaymentMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	static Payment payment(final int id) {
+		return Payment.builder()
+				.paymentId(id)
+				.orderId(id)
+				.isPayed(false)
+				.paymentStatus(PaymentStatus.NOT_STARTED)
+				.build();
+	}
+	
+	@State(Scope.Benchmark)
+	public static class Rows {
+		
+		@Param({"10", "1000", "100000"})
+		public int size;
+		
+		List<Payment> payments;
+		
+		@Setup
+		public void setUp() {
+			this.payments = IntStream.rangeClosed(1, this.size)
+					.mapToObj(PaymentMappingHelperBenchmark::payment)
+					.collect(Collectors.toUnmodifiableList());
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,78 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.selimhorri.app.config.mapper.MapperConfig;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.ProductMappingHelper;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoCollectionResponseSerializationBenchmark {
+	
+	@Param({"10", "1000", "100000"})
+	public int size;
+	
+	private ObjectMapper objectMapper;
+	private ObjectMapper compactObjectMapper;
+	private DtoCollectionResponse<ProductDto> response;
+	
+	@Setup
+	public void setUp() {
+		this.objectMapper = new MapperConfig().objectMapperBean();
+		this.compactObjectMapper = new JsonMapper();
+		final List<ProductDto> products = IntStream.rangeClosed(1, this.size)
+				.mapToObj(ProductMappingHelperBenchmark::product)
+				.map(ProductMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList());
+		this.response = new DtoCollectionResponse<>(products);
+	}
+	
+	/**
+	 * The mapper the service actually registers, pretty printing included.
+	 */
+	@Benchmark
+	public byte[] serialize() throws JsonProcessingException {
+		return this.objectMapper.writeValueAsBytes(this.response);
+	}
+	
+	@Benchmark
+	public byte[] serializeCompact() throws JsonProcessingException {
+		return this.compactObjectMapper.writeValueAsBytes(this.response);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
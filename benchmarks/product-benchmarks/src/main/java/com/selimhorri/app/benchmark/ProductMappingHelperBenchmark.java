@@ -0,0 +1,117 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.ProductMappingHelper;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductMappingHelperBenchmark {
+	
+	private Product product;
+	private ProductDto productDto;
+	
+	@Setup
+	public void setUp() {
+		this.product = product(1);
+		this.productDto = ProductMappingHelper.map(this.product);
+	}
+	
+	@Benchmark
+	public ProductDto mapToDto() {
+		return ProductMappingHelper.map(this.product);
+	}
+	
+	@Benchmark
+	public Product mapToEntity() {
+		return ProductMappingHelper.map(this.productDto);
+	}
+	
+	/**
+	 * Same map, distinct and collect pipeline as {@code ProductServiceImpl#findAll}.
+	 */
+	@Benchmark
+	public List<ProductDto> findAll(final Rows rows) {
+		return rows.products.stream()
+				.map(ProductMappingHelper::map)
+				.distinct()
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * Baseline for {@link #findAll(Rows)}; the difference between the two is the cost of {@code distinct()}.
+	 */
+	@Benchmark
+	public List<ProductDto> findAllWithoutDistinct(final Rows rows) {
+		return rows.products.stream()
+				.map(ProductMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	static Product product(final int id) {
+		return Product.builder()
+				.productId(id)
+				.productTitle("Product " + id)
+				.imageUrl("https://cdn.example.com/products/" + id + ".png")
+				.sku("SKU-" + id)
+				.priceUnit(19.99)
+				.quantity(50)
+				.category(Category.builder()
+						.categoryId(id % 20)
+						.categoryTitle("Category " + id % 20)
+						.imageUrl("https://cdn.example.com/categories/" + id % 20 + ".png")
+						.build())
+				.build();
+	}
+	
+	@State(Scope.Benchmark)
+	public static class Rows {
+		
+		@Param({"10", "1000", "100000"})
+		public int size;
+		
+		List<Product> products;
+		
+		@Setup
+		public void setUp() {
+			this.products = IntStream.rangeClosed(1, this.size)
+					.mapToObj(ProductMappingHelperBenchmark::product)
+					.collect(Collectors.toUnmodifiableList());
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,84 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.jwt.util.JwtUtil;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+	
+	/**
+	 * A claims cache of size 0 evicts on every insert, so every validation pays for a full parse.
+	 */
+	@Param({"0", "10000"})
+	public long claimsCacheMaximumSize;
+	
+	private JwtUtil jwtUtil;
+	private UserDetails userDetails;
+	private String token;
+	
+	@Setup
+	public void setUp() {
+		this.jwtUtil = new JwtUtilImpl(this.claimsCacheMaximumSize);
+		this.userDetails = new UserDetailsImpl(CredentialDto.builder()
+				.credentialId(1)
+				.username("selimhorri")
+				.password("")
+				.roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+				.isEnabled(true)
+				.isAccountNonExpired(true)
+				.isAccountNonLocked(true)
+				.isCredentialsNonExpired(true)
+				.build());
+		this.token = this.jwtUtil.generateToken(this.userDetails);
+	}
+	
+	@Benchmark
+	public String generateToken() {
+		return this.jwtUtil.generateToken(this.userDetails);
+	}
+	
+	@Benchmark
+	public Boolean validateToken() {
+		return this.jwtUtil.validateToken(this.token, this.userDetails);
+	}
+	
+	@Benchmark
+	public UserDetails extractUserDetails() {
+		return this.jwtUtil.extractUserDetails(this.token);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
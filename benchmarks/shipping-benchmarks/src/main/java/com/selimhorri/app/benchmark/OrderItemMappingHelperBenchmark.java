@@ -0,0 +1,108 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.selimhorri.app.domain.OrderItem;
+import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.helper.OrderItemMappingHelper;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderItemMappingHelperBenchmark {
+	
+	private OrderItem orderItem;
+	private OrderItemDto orderItemDto;
+	
+	@Setup
+	public void setUp() {
+		this.orderItem = orderItem(1);
+		this.orderItemDto = OrderItemMappingHelper.map(this.orderItem);
+	}
+	
+	@Benchmark
+	public OrderItemDto mapToDto() {
+		return OrderItemMappingHelper.map(this.orderItem);
+	}
+	
+	@Benchmark
+	public OrderItem mapToEntity() {
+		return OrderItemMappingHelper.map(this.orderItemDto);
+	}
+	
+	/**
+	 * Same map, distinct and collect pipeline as {@code OrderItemServiceImpl#findAll}.
+	 */
+	@Benchmark
+	public List<OrderItemDto> findAll(final Rows rows) {
+		return rows.orderItems.stream()
+				.map(OrderItemMappingHelper::map)
+				.distinct()
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * Baseline for {@link #findAll(Rows)}; the difference between the two is the cost of {@code distinct()}.
+	 */
+	@Benchmark
+	public List<OrderItemDto> findAllWithoutDistinct(final Rows rows) {
+		return rows.orderItems.stream()
+				.map(OrderItemMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	static OrderItem orderItem(final int id) {
+		return OrderItem.builder()
+				.orderId(id % 100)
+				.productId(id)
+				.orderedQuantity(2)
+				.build();
+	}
+	
+	@State(Scope.Benchmark)
+	public static class Rows {
+		
+		@Param({"10", "1000", "100000"})
+		public int size;
+		
+		List<OrderItem> orderItems;
+		
+		@Setup
+		public void setUp() {
+			this.orderItems = IntStream.rangeClosed(1, this.size)
+					.mapToObj(OrderItemMappingHelperBenchmark::orderItem)
+					.collect(Collectors.toUnmodifiableList());
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
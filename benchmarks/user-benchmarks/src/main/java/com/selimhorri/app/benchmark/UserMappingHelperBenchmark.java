@@ -0,0 +1,123 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.domain.RoleBasedAuthority;
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.helper.UserMappingHelper;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserMappingHelperBenchmark {
+	
+	private User user;
+	private UserDto userDto;
+	
+	@Setup
+	public void setUp() {
+		this.user = user(1);
+		this.userDto = UserMappingHelper.map(this.user);
+	}
+	
+	@Benchmark
+	public UserDto mapToDto() {
+		return UserMappingHelper.map(this.user);
+	}
+	
+	@Benchmark
+	public User mapToEntity() {
+		return UserMappingHelper.map(this.userDto);
+	}
+	
+	/**
+	 * Same map, distinct and collect pipeline as {@code UserServiceImpl#findAll}.
+	 */
+	@Benchmark
+	public List<UserDto> findAll(final Rows rows) {
+		return rows.users.stream()
+				.map(UserMappingHelper::map)
+				.distinct()
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * Baseline for {@link #findAll(Rows)}; the difference between the two is the cost of {@code distinct()}.
+	 */
+	@Benchmark
+	public List<UserDto> findAllWithoutDistinct(final Rows rows) {
+		return rows.users.stream()
+				.map(UserMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	static User user(final int id) {
+		return User.builder()
+				.userId(id)
+				.firstName("First" + id)
+				.lastName("Last" + id)
+				.imageUrl("https://cdn.example.com/users/" + id + ".png")
+				.email("user" + id + "@example.com")
+				.phone("+2160000" + id)
+				.credential(Credential.builder()
+						.credentialId(id)
+						.username("user" + id)
+						.password("$2a$04$yDDuqmtKRyqwkbSzRVxnNuQHy9qXs0VUuXUPTSBcdzcZhxtPzdjHG")
+						.roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+						.isEnabled(true)
+						.isAccountNonExpired(true)
+						.isAccountNonLocked(true)
+						.isCredentialsNonExpired(true)
+						.build())
+				.build();
+	}
+	
+	@State(Scope.Benchmark)
+	public static class Rows {
+		
+		@Param({"10", "1000", "100000"})
+		public int size;
+		
+		List<User> users;
+		
+		@Setup
+		public void setUp() {
+			this.users = IntStream.rangeClosed(1, this.size)
+					.mapToObj(UserMappingHelperBenchmark::user)
+					.collect(Collectors.toUnmodifiableList());
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
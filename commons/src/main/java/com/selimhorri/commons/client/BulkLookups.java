@@ -0,0 +1,88 @@
+package com.selimhorri.commons.client;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Id handling shared by the clients' bulk lookups and their fallbacks.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BulkLookups {
+
+    /**
+     * Most ids sent in one batch request, matching the cap of the product-service and
+     * user-service batch endpoints.
+     */
+    public static final int MAX_BATCH_SIZE = 100;
+
+    /**
+     * Drops nulls and repeats, keeping the caller's order, so a request body never carries the
+     * same id twice.
+     */
+    public static <K> Set<K> distinctIds(final Collection<K> ids) {
+        return ids == null ? Set.of() : ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Runs {@code lookup} once per group of at most {@link #MAX_BATCH_SIZE} ids, one group
+     * after the other, and merges the responses; a {@code null} response adds nothing.
+     */
+    public static <K, V> Map<K, V> inChunks(final Set<K> ids, final Function<Set<K>, Map<K, V>> lookup) {
+        if (ids.size() <= MAX_BATCH_SIZE) {
+            return lookup.apply(ids);
+        }
+        final Map<K, V> resolved = new HashMap<>();
+        chunks(ids).forEach(chunk -> {
+            final Map<K, V> values = lookup.apply(chunk);
+            if (values != null) {
+                resolved.putAll(values);
+            }
+        });
+        return resolved;
+    }
+
+    static <K> List<Set<K>> chunks(final Set<K> ids) {
+        final List<Set<K>> chunks = new ArrayList<>();
+        Set<K> chunk = new LinkedHashSet<>();
+        for (final K id : ids) {
+            if (chunk.size() == MAX_BATCH_SIZE) {
+                chunks.add(chunk);
+                chunk = new LinkedHashSet<>();
+            }
+            chunk.add(id);
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * Maps every requested id to its resolved value, or to {@code fallback} for ids the
+     * response (which may be {@code null}) did not contain.
+     */
+    public static <K, V> Map<K, V> resolveAll(final Set<K> ids, final Map<K, V> resolved,
+            final Function<K, V> fallback) {
+        return ids.stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), id -> {
+                    final V value = resolved == null ? null : resolved.get(id);
+                    return value != null ? value : fallback.apply(id);
+                }));
+    }
+}
+
+
+
@@ -0,0 +1,173 @@
+package com.selimhorri.commons.client;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.selimhorri.commons.config.properties.LastKnownGoodProperties;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded store of the last successful response per id, read by fallbacks and, where the
+ * response carried an etag, by clients revalidating it with a conditional GET.
+ *
+ * <p>Entries expire {@code ttl} after their last successful response. Serving an entry older
+ * than {@code refresh-after} also queues its id for a background refresh, so ids that keep
+ * being served are renewed before they expire while a cold id simply ages out. Queued ids are
+ * reloaded together through the client's batch lookup on the factory's refresh executor, one
+ * call per cache at a time.
+ *
+ * <p>Refreshes only run while the client's circuit breaker is CLOSED. While it is OPEN the
+ * downstream is known to be failing, and while HALF_OPEN its few trial calls belong to real
+ * requests; a skipped refresh leaves the entry aging towards its expiry, it is not rewritten.
+ * A refresh that runs goes through the breaker, so its outcome counts like any other call,
+ * and a failed one keeps the old entry.
+ */
+@Slf4j
+public final class LastKnownGoodCache<K, V> {
+
+    private final Cache<K, Entry<V>> cache;
+    private final Policy.Expiration<K, Entry<V>> expiration;
+    private final long refreshAfterNanos;
+    private final CircuitBreaker circuitBreaker;
+    private final Executor refreshExecutor;
+    private final Function<Set<K>, Map<K, V>> reloader;
+    private final Set<K> pendingRefresh = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    LastKnownGoodCache(final String name, final LastKnownGoodProperties properties, final CircuitBreaker circuitBreaker,
+            final Executor refreshExecutor, final Function<Set<K>, Map<K, V>> reloader, final Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.expiration = this.cache.policy().expireAfterWrite().orElseThrow();
+        this.refreshAfterNanos = properties.getRefreshAfter().toNanos();
+        this.circuitBreaker = circuitBreaker;
+        this.refreshExecutor = refreshExecutor;
+        this.reloader = reloader;
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, this.cache, name + ".lastKnownGood");
+    }
+
+    public void put(final K key, final V value) {
+        put(key, value, null);
+    }
+
+    public void put(final K key, final V value, final String etag) {
+        if (key != null && value != null) {
+            this.cache.put(key, new Entry<>(value, etag));
+        }
+    }
+
+    /**
+     * Stores values from a batch response, which carries no etags. An entry whose value is
+     * unchanged keeps the etag it already has, so the next conditional GET can still end in
+     * a 304.
+     */
+    public void putAll(final Map<K, V> values) {
+        values.forEach((key, value) -> {
+            if (key != null && value != null) {
+                this.cache.asMap().compute(key, (k, cached) -> new Entry<>(value,
+                        cached != null && value.equals(cached.getValue()) ? cached.getEtag() : null));
+            }
+        });
+    }
+
+    public Optional<V> get(final K key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        final Entry<V> entry = this.cache.getIfPresent(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        refreshIfStale(key);
+        return Optional.of(entry.getValue());
+    }
+
+    /**
+     * Reads the entry without counting a hit or queuing a refresh, for callers that are about
+     * to revalidate it themselves.
+     */
+    public Optional<Entry<V>> peek(final K key) {
+        return key == null ? Optional.empty() : Optional.ofNullable(this.cache.policy().getIfPresentQuietly(key));
+    }
+
+    public Map<K, V> getAll(final Collection<K> keys) {
+        final Map<K, V> found = new HashMap<>();
+        keys.forEach(key -> get(key).ifPresent(value -> found.put(key, value)));
+        return found;
+    }
+
+    private void refreshIfStale(final K key) {
+        if (this.expiration.ageOf(key, TimeUnit.NANOSECONDS).orElse(0L) < this.refreshAfterNanos
+                || this.circuitBreaker.getState() != CircuitBreaker.State.CLOSED) {
+            return;
+        }
+        this.pendingRefresh.add(key);
+        scheduleRefresh();
+    }
+
+    private void scheduleRefresh() {
+        if (this.pendingRefresh.isEmpty() || !this.refreshScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            this.refreshExecutor.execute(this::refreshPending);
+        } catch (final RejectedExecutionException e) {
+            this.refreshScheduled.set(false);
+        }
+    }
+
+    private void refreshPending() {
+        try {
+            final Set<K> keys = new LinkedHashSet<>();
+            for (final Iterator<K> pending = this.pendingRefresh.iterator(); pending.hasNext();) {
+                keys.add(pending.next());
+                pending.remove();
+            }
+            if (!keys.isEmpty() && this.circuitBreaker.getState() == CircuitBreaker.State.CLOSED) {
+                final Map<K, V> refreshed = this.circuitBreaker.executeSupplier(() -> this.reloader.apply(keys));
+                if (refreshed != null) {
+                    putAll(refreshed);
+                }
+            }
+        } catch (final RuntimeException e) {
+            log.debug("Last-known-good refresh through {} failed, keeping the cached entries: {}",
+                    this.circuitBreaker.getName(), e.getMessage());
+        } finally {
+            this.refreshScheduled.set(false);
+        }
+        scheduleRefresh();
+    }
+
+    @Value
+    public static class Entry<V> {
+        V value;
+        String etag;
+    }
+}
+
+
+
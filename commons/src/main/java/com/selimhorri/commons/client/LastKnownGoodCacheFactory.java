@@ -0,0 +1,64 @@
+package com.selimhorri.commons.client;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.CustomizableThreadFactory;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.selimhorri.commons.config.properties.LastKnownGoodProperties;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+/**
+ * Creates the clients' {@link LastKnownGoodCache}s and owns the executor their background
+ * refreshes run on, kept apart from the common pool and from any request-serving executor.
+ */
+public class LastKnownGoodCacheFactory implements DisposableBean {
+
+    /**
+     * Each cache has at most one refresh queued or running, so the queue only ever holds a
+     * handful of tasks; the bound is a guard, and a rejected refresh is simply retried on a
+     * later read.
+     */
+    private static final int REFRESH_QUEUE_CAPACITY = 64;
+
+    private final LastKnownGoodProperties properties;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public LastKnownGoodCacheFactory(final LastKnownGoodProperties properties,
+            final CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.properties = properties;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        final var threadFactory = new CustomizableThreadFactory("last-known-good-refresh-");
+        threadFactory.setDaemon(true);
+        this.refreshExecutor = new ThreadPoolExecutor(properties.getRefreshThreads(), properties.getRefreshThreads(),
+                60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(REFRESH_QUEUE_CAPACITY), threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        this.refreshExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @param name     the client's name, which is also the circuit breaker its refreshes go through
+     * @param reloader the client's raw batch lookup rather than its annotated method, so a
+     *                 failed refresh never ends in a fallback serving this same cache
+     */
+    public <K, V> LastKnownGoodCache<K, V> create(final String name, final Function<Set<K>, Map<K, V>> reloader) {
+        return new LastKnownGoodCache<>(name, this.properties, this.circuitBreakerRegistry.circuitBreaker(name),
+                this.refreshExecutor, reloader, Ticker.systemTicker());
+    }
+
+    @Override
+    public void destroy() {
+        this.refreshExecutor.shutdownNow();
+    }
+}
+
+
+
@@ -0,0 +1,81 @@
+package com.selimhorri.commons.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Collapses concurrent calls for the same key into a single execution. Callers arriving while a
+ * call is in flight wait for it and share its result or its exception; once it completes the key
+ * is released, so nothing is cached beyond the call itself.
+ *
+ * <p>{@code client.single.flight} counts leaders (calls that went remote) and joiners (calls that
+ * were served by someone else's call); joined / (leader + joined) is the coalescing ratio.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter joiners;
+
+    /**
+     * Registers against the global registry, which Spring Boot links to the application's registry.
+     */
+    public SingleFlight(final String name) {
+        this(name, Metrics.globalRegistry);
+    }
+
+    public SingleFlight(final String name, final MeterRegistry meterRegistry) {
+        this.leaders = counter(name, "leader", meterRegistry);
+        this.joiners = counter(name, "joined", meterRegistry);
+    }
+
+    public V execute(final K key, final Supplier<V> call) {
+        final CompletableFuture<V> flight = new CompletableFuture<>();
+        final CompletableFuture<V> existing = this.inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            this.joiners.increment();
+            return join(existing);
+        }
+
+        this.leaders.increment();
+        try {
+            final V value = call.get();
+            flight.complete(value);
+            return value;
+        } catch (final RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlight.remove(key, flight);
+        }
+    }
+
+    private static <V> V join(final CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static Counter counter(final String name, final String role, final MeterRegistry meterRegistry) {
+        return Counter.builder("client.single.flight")
+                .description("Remote calls executed (leader) or shared with an in-flight call (joined)")
+                .tag("name", name)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,92 @@
+package com.selimhorri.commons.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.commons.config.properties.HttpClientProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * Pooled, keep-alive Apache client behind the load-balanced RestTemplate. Runs before the
+ * Feign auto-configuration so that Feign, where present, picks up the same client instead
+ * of building its own pool.
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigureBefore(name = "org.springframework.cloud.openfeign.FeignAutoConfiguration")
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class HttpClientAutoConfiguration {
+	
+	@Bean(destroyMethod = "close")
+	@ConditionalOnMissingBean
+	public PoolingHttpClientConnectionManager httpClientConnectionManager(final HttpClientProperties properties, 
+			final MeterRegistry meterRegistry) {
+		final var connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(properties.getMaxTotal());
+		connectionManager.setDefaultMaxPerRoute(properties.getMaxPerRoute());
+		connectionManager.setValidateAfterInactivity((int) properties.getValidateAfterInactivity().toMillis());
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, properties.getPoolName()).bindTo(meterRegistry);
+		return connectionManager;
+	}
+	
+	@Bean(destroyMethod = "close")
+	@ConditionalOnMissingBean
+	public CloseableHttpClient httpClient(final PoolingHttpClientConnectionManager httpClientConnectionManager, 
+			final HttpClientProperties properties) {
+		return HttpClients.custom()
+				.setConnectionManager(httpClientConnectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectTimeout((int) properties.getConnectTimeout().toMillis())
+						.setConnectionRequestTimeout((int) properties.getConnectionRequestTimeout().toMillis())
+						.setSocketTimeout((int) properties.getReadTimeout().toMillis())
+						.build())
+				.setKeepAliveStrategy(keepAliveStrategy(properties.getKeepAlive().toMillis()))
+				.evictExpiredConnections()
+				.evictIdleConnections(properties.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS)
+				.build();
+	}
+	
+	@LoadBalanced
+	@Bean
+	@ConditionalOnMissingBean
+	public RestTemplate restTemplateBean(final CloseableHttpClient httpClient) {
+		return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+	}
+	
+	/**
+	 * Honours a shorter Keep-Alive advertised by the server, otherwise keeps connections for the configured time.
+	 */
+	private static ConnectionKeepAliveStrategy keepAliveStrategy(final long keepAliveMillis) {
+		return (response, context) -> {
+			final long advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+			return advertised > 0 ? Math.min(advertised, keepAliveMillis) : keepAliveMillis;
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
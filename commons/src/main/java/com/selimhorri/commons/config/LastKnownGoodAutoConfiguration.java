@@ -0,0 +1,37 @@
+package com.selimhorri.commons.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.commons.client.LastKnownGoodCacheFactory;
+import com.selimhorri.commons.config.properties.LastKnownGoodProperties;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+/**
+ * Binds {@code app.last-known-good} for services whose clients keep a
+ * {@link com.selimhorri.commons.client.LastKnownGoodCache}, which is backed by Caffeine and
+ * refreshed through the clients' circuit breakers.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({ Caffeine.class, CircuitBreakerRegistry.class })
+@EnableConfigurationProperties(LastKnownGoodProperties.class)
+public class LastKnownGoodAutoConfiguration {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public LastKnownGoodCacheFactory lastKnownGoodCacheFactory(final LastKnownGoodProperties properties,
+			final CircuitBreakerRegistry circuitBreakerRegistry) {
+		return new LastKnownGoodCacheFactory(properties, circuitBreakerRegistry);
+	}
+
+
+
+}
+
+
+
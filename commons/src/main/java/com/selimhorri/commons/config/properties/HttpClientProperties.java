@@ -0,0 +1,42 @@
+package com.selimhorri.commons.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.http-client")
+public class HttpClientProperties {
+
+    /**
+     * Tag on the connection pool metrics, telling the pools of different services apart.
+     */
+    private String poolName = "restTemplate";
+
+    private int maxTotal = 100;
+
+    /**
+     * Connections per downstream instance; at least the bulkhead's max-concurrent-calls so a
+     * full bulkhead never queues on the pool as well.
+     */
+    private int maxPerRoute = 20;
+
+    private Duration connectTimeout = Duration.ofSeconds(1);
+
+    /**
+     * How long a caller waits to lease a pooled connection, matched to the bulkhead's max-wait-duration.
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+
+    private Duration readTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Upper bound on how long an idle connection is kept, also used when the server sends no Keep-Alive header.
+     * Stays below Tomcat's default keep-alive timeout so the client closes first.
+     */
+    private Duration keepAlive = Duration.ofSeconds(20);
+
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+}
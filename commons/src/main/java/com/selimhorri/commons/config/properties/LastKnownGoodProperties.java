@@ -0,0 +1,30 @@
+package com.selimhorri.commons.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.last-known-good")
+public class LastKnownGoodProperties {
+
+    private long maximumSize = 10_000;
+
+    /**
+     * Age after which serving an entry also refreshes it in the background, as long as the
+     * client's circuit breaker is closed.
+     */
+    private Duration refreshAfter = Duration.ofMinutes(1);
+
+    /**
+     * Threads shared by the background refreshes of every cache in the service.
+     */
+    private int refreshThreads = 2;
+
+    /**
+     * Longest a fallback may serve an entry after its last successful response.
+     */
+    private Duration ttl = Duration.ofMinutes(30);
+}
@@ -0,0 +1,80 @@
+package com.selimhorri.commons.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BulkLookups Tests")
+class BulkLookupsTest {
+
+    @Test
+    @DisplayName("Should send a small id set in a single request")
+    void testInChunks_WithinMaxBatchSize_ShouldCallLookupOnce() {
+        // Given
+        final List<Set<Integer>> requests = new ArrayList<>();
+        final Set<Integer> ids = ids(BulkLookups.MAX_BATCH_SIZE);
+
+        // When
+        final Map<Integer, String> result = BulkLookups.inChunks(ids, recording(requests));
+
+        // Then
+        assertEquals(1, requests.size());
+        assertEquals(BulkLookups.MAX_BATCH_SIZE, result.size());
+    }
+
+    @Test
+    @DisplayName("Should split a large id set into capped requests and merge the responses")
+    void testInChunks_AboveMaxBatchSize_ShouldSplitAndMerge() {
+        // Given
+        final List<Set<Integer>> requests = new ArrayList<>();
+        final Set<Integer> ids = ids(2 * BulkLookups.MAX_BATCH_SIZE + 1);
+
+        // When
+        final Map<Integer, String> result = BulkLookups.inChunks(ids, recording(requests));
+
+        // Then
+        assertEquals(List.of(BulkLookups.MAX_BATCH_SIZE, BulkLookups.MAX_BATCH_SIZE, 1),
+                requests.stream().map(Set::size).collect(Collectors.toList()));
+        assertEquals(ids, result.keySet());
+    }
+
+    @Test
+    @DisplayName("Should skip chunks whose response has no body")
+    void testInChunks_WithNullResponse_ShouldKeepOtherChunks() {
+        // Given
+        final Set<Integer> ids = ids(BulkLookups.MAX_BATCH_SIZE + 1);
+
+        // When
+        final Map<Integer, String> result = BulkLookups.inChunks(ids,
+                chunk -> chunk.contains(1) ? null : Map.of(BulkLookups.MAX_BATCH_SIZE + 1, "v"));
+
+        // Then
+        assertEquals(Map.of(BulkLookups.MAX_BATCH_SIZE + 1, "v"), result);
+    }
+
+    private static Set<Integer> ids(final int count) {
+        return IntStream.rangeClosed(1, count)
+                .boxed()
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static Function<Set<Integer>, Map<Integer, String>> recording(final List<Set<Integer>> requests) {
+        return chunk -> {
+            requests.add(chunk);
+            return chunk.stream().collect(Collectors.toMap(Function.identity(), String::valueOf));
+        };
+    }
+}
+
+
+
@@ -0,0 +1,159 @@
+package com.selimhorri.commons.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.commons.config.properties.LastKnownGoodProperties;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+@DisplayName("LastKnownGoodCache Tests")
+class LastKnownGoodCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<Set<Integer>> reloads = new ArrayList<>();
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+
+    private LastKnownGoodProperties properties;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LastKnownGoodProperties();
+        properties.setRefreshAfter(Duration.ofMinutes(1));
+        properties.setTtl(Duration.ofMinutes(30));
+        circuitBreaker = CircuitBreaker.ofDefaults("test");
+    }
+
+    @Test
+    @DisplayName("Should serve a fresh entry without refreshing it")
+    void testGet_WhenEntryIsFresh_ShouldNotRefresh() {
+        // Given
+        final LastKnownGoodCache<Integer, String> cache = cache(this::reload);
+        cache.put(1, "v1");
+
+        // When
+        final Optional<String> result = cache.get(1);
+        runRefreshes();
+
+        // Then
+        assertEquals(Optional.of("v1"), result);
+        assertTrue(reloads.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should refresh stale entries in one batch while the breaker is closed")
+    void testGetAll_WhenEntriesAreStaleAndBreakerClosed_ShouldRefreshThemTogether() {
+        // Given
+        final LastKnownGoodCache<Integer, String> cache = cache(this::reload);
+        cache.put(1, "v1");
+        cache.put(2, "v1");
+        advance(Duration.ofMinutes(2));
+
+        // When
+        final Map<Integer, String> served = cache.getAll(List.of(1, 2));
+        runRefreshes();
+
+        // Then
+        assertEquals(Map.of(1, "v1", 2, "v1"), served);
+        assertEquals(List.of(Set.of(1, 2)), reloads);
+        assertEquals(Optional.of("v2"), cache.get(1));
+        assertEquals(1, circuitBreaker.getMetrics().getNumberOfSuccessfulCalls());
+    }
+
+    @Test
+    @DisplayName("Should not refresh while the breaker is open and still expire the entry")
+    void testGet_WhenBreakerIsOpen_ShouldServeStaleEntryWithoutRefreshing() {
+        // Given
+        final LastKnownGoodCache<Integer, String> cache = cache(this::reload);
+        cache.put(1, "v1");
+        circuitBreaker.transitionToOpenState();
+        advance(Duration.ofMinutes(2));
+
+        // When
+        final Optional<String> stale = cache.get(1);
+        runRefreshes();
+        advance(Duration.ofMinutes(29));
+
+        // Then
+        assertEquals(Optional.of("v1"), stale);
+        assertTrue(reloads.isEmpty());
+        assertEquals(Optional.empty(), cache.get(1));
+    }
+
+    @Test
+    @DisplayName("Should leave half-open trial calls to real requests")
+    void testGet_WhenBreakerIsHalfOpen_ShouldNotRefresh() {
+        // Given
+        final LastKnownGoodCache<Integer, String> cache = cache(this::reload);
+        cache.put(1, "v1");
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.transitionToHalfOpenState();
+        advance(Duration.ofMinutes(2));
+
+        // When
+        cache.get(1);
+        runRefreshes();
+
+        // Then
+        assertTrue(reloads.isEmpty());
+        assertEquals(0, circuitBreaker.getMetrics().getNumberOfBufferedCalls());
+    }
+
+    @Test
+    @DisplayName("Should keep the old entry and record the failure when a refresh fails")
+    void testGet_WhenRefreshFails_ShouldKeepOldEntry() {
+        // Given
+        final LastKnownGoodCache<Integer, String> cache = cache(ids -> {
+            throw new IllegalStateException("downstream failure");
+        });
+        cache.put(1, "v1");
+        advance(Duration.ofMinutes(2));
+
+        // When
+        final Optional<String> result = cache.get(1);
+        runRefreshes();
+
+        // Then
+        assertEquals(Optional.of("v1"), result);
+        assertEquals(Optional.of("v1"), cache.get(1));
+        assertEquals(1, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+    }
+
+    private Map<Integer, String> reload(final Set<Integer> ids) {
+        reloads.add(Set.copyOf(ids));
+        final Map<Integer, String> values = new HashMap<>();
+        ids.forEach(id -> values.put(id, "v2"));
+        return values;
+    }
+
+    private LastKnownGoodCache<Integer, String> cache(final Function<Set<Integer>, Map<Integer, String>> reloader) {
+        return new LastKnownGoodCache<>("test", properties, circuitBreaker, refreshTasks::add, reloader, nanos::get);
+    }
+
+    private void runRefreshes() {
+        final List<Runnable> tasks = List.copyOf(refreshTasks);
+        refreshTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private void advance(final Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
+
+
+
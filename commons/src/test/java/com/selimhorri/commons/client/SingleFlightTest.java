@@ -0,0 +1,96 @@
+package com.selimhorri.commons.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<Integer, String> singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("test", meterRegistry);
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should share one in-flight call between concurrent callers for the same key")
+    void testExecute_WithConcurrentCallersForSameKey_ShouldCallOnce() throws Exception {
+        // Given
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute(1, () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "product-1";
+        }), executor);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        final CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> singleFlight.execute(1, () -> {
+            calls.incrementAndGet();
+            return "unexpected";
+        }), executor);
+        while (joined() < 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Then
+        assertEquals("product-1", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("product-1", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+        assertEquals(1.0, meterRegistry.get("client.single.flight").tag("role", "leader").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should propagate the leader's exception and release the key afterwards")
+    void testExecute_WhenCallFails_ShouldRethrowAndAllowNextCall() {
+        // When
+        final IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> singleFlight.execute(1, () -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        // Then
+        assertEquals("boom", thrown.getMessage());
+        assertEquals("retried", singleFlight.execute(1, () -> "retried"));
+        assertEquals(2.0, meterRegistry.get("client.single.flight").tag("role", "leader").counter().count());
+    }
+
+    private double joined() {
+        return meterRegistry.get("client.single.flight").tag("role", "joined").counter().count();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.domain.id.FavouriteId;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+public class UserFavouritesCacheConfig {
+	
+	public static final String USER_FAVOURITES_CACHE = "userFavourites";
+	
+	@Bean
+	public Cache<Integer, List<FavouriteId>> userFavouritesCache(
+			@Value("${app.cache.user-favourites.ttl:10m}") final Duration ttl, 
+			@Value("${app.cache.user-favourites.maximum-size:10000}") final long maximumSize, 
+			final MeterRegistry meterRegistry) {
+		final Cache<Integer, List<FavouriteId>> cache = Caffeine.newBuilder()
+				.expireAfterWrite(ttl)
+				.maximumSize(maximumSize)
+				.recordStats()
+				.build();
+		return CaffeineCacheMetrics.monitor(meterRegistry, cache, USER_FAVOURITES_CACHE);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,12 +1,22 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Favourite;
 import com.selimhorri.app.domain.id.FavouriteId;
 
 public interface FavouriteRepository extends JpaRepository<Favourite, FavouriteId> {
 	
-	
+	/**
+	 * Range scan on {@code idx_favourites_user_id_like_date}, newest first. Only key columns
+	 * are selected, which the index already carries, so no table rows are read.
+	 */
+	@Query("SELECT new com.selimhorri.app.domain.id.FavouriteId(f.userId, f.productId, f.likeDate) "
+			+ "FROM Favourite f WHERE f.userId = :userId ORDER BY f.likeDate DESC, f.productId DESC")
+	List<FavouriteId> findAllIdsByUserId(@Param("userId") final Integer userId);
 	
 }
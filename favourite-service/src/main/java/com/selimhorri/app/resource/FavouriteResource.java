@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.constant.AppConstant;
@@ -39,6 +40,21 @@ public class FavouriteResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.favouriteService.findAll()));
 	}
 	
+	@GetMapping(params = "size")
+	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAll(
+			@RequestParam(name = "page", defaultValue = "0") final int page, 
+			@RequestParam("size") final int size) {
+		log.info("*** FavouriteDto List, controller; fetch favourites page *");
+		return ResponseEntity.ok(this.favouriteService.findAll(page, size));
+	}
+	
+	@GetMapping("/user/{userId}")
+	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAllByUserId(@PathVariable("userId") final String userId) {
+		log.info("*** FavouriteDto List, resource; fetch favourites by user id *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(
+				this.favouriteService.findAllByUserId(Integer.parseInt(userId))));
+	}
+	
 	@GetMapping("/{userId}/{productId}/{likeDate}")
 	public ResponseEntity<FavouriteDto> findById(
 			@PathVariable("userId") final String userId, 
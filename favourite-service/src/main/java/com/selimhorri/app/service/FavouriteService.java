@@ -4,10 +4,13 @@ import java.util.List;
 
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface FavouriteService {
 	
 	List<FavouriteDto> findAll();
+	DtoCollectionResponse<FavouriteDto> findAll(final int page, final int size);
+	List<FavouriteDto> findAllByUserId(final Integer userId);
 	FavouriteDto findById(final FavouriteId favouriteId);
 	FavouriteDto save(final FavouriteDto favouriteDto);
 	FavouriteDto update(final FavouriteDto favouriteDto);
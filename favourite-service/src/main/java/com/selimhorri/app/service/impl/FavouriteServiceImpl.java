@@ -1,19 +1,26 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.selimhorri.app.client.ProductServiceClient;
 import com.selimhorri.app.client.UserServiceClient;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.helper.FavouriteMappingHelper;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.repository.FavouriteRepository;
 import com.selimhorri.app.service.FavouriteService;
 
@@ -29,19 +36,52 @@ public class FavouriteServiceImpl implements FavouriteService {
 	private final FavouriteRepository favouriteRepository;
 	private final UserServiceClient userServiceClient;
 	private final ProductServiceClient productServiceClient;
+	private final Cache<Integer, List<FavouriteId>> userFavouritesCache;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<FavouriteDto> findAll() {
 		log.info("*** FavouriteDto List, service; fetch all favourites *");
-		return this.favouriteRepository.findAll()
+		return this.enrichRemoteData(this.favouriteRepository.findAll()
 				.stream()
 					.map(FavouriteMappingHelper::map)
-					.map(this::enrichRemoteData)
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<FavouriteDto> findAll(final int page, final int size) {
+		log.info("*** FavouriteDto List, service; fetch favourites page *");
+		final Page<FavouriteDto> favouriteDtos = this.favouriteRepository
+				.findAll(PageRequestHelper.offsetPage(page, size, Sort.by("userId", "productId", "likeDate")))
+				.map(FavouriteMappingHelper::map);
+		this.enrichRemoteData(favouriteDtos.getContent());
+		return PageRequestHelper.offsetResponse(favouriteDtos);
+	}
+	
+	/**
+	 * Only the user's favourite keys are cached; user and product data are still resolved
+	 * on every call, so the cache goes stale only through this service's own writes, which
+	 * evict it.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<FavouriteDto> findAllByUserId(final Integer userId) {
+		log.info("*** FavouriteDto List, service; fetch favourites by user id *");
+		return this.enrichRemoteData(this.userFavouritesCache
+				.get(userId, key -> List.copyOf(this.favouriteRepository.findAllIdsByUserId(key)))
+				.stream()
+					.map(favouriteId -> FavouriteDto.builder()
+							.userId(favouriteId.getUserId())
+							.productId(favouriteId.getProductId())
+							.likeDate(favouriteId.getLikeDate())
+							.build())
+					.collect(Collectors.toUnmodifiableList()));
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public FavouriteDto findById(final FavouriteId favouriteId) {
 		log.info("*** FavouriteDto, service; fetch favourite by id *");
 		return this.favouriteRepository.findById(favouriteId)
@@ -53,20 +93,42 @@ public class FavouriteServiceImpl implements FavouriteService {
 	
 	@Override
 	public FavouriteDto save(final FavouriteDto favouriteDto) {
+		this.evictUserFavourites(favouriteDto.getUserId());
 		return FavouriteMappingHelper.map(this.favouriteRepository
 				.save(FavouriteMappingHelper.map(favouriteDto)));
 	}
 	
 	@Override
 	public FavouriteDto update(final FavouriteDto favouriteDto) {
+		this.evictUserFavourites(favouriteDto.getUserId());
 		return FavouriteMappingHelper.map(this.favouriteRepository
 				.save(FavouriteMappingHelper.map(favouriteDto)));
 	}
 	
 	@Override
 	public void deleteById(final FavouriteId favouriteId) {
+		this.evictUserFavourites(favouriteId.getUserId());
 		this.favouriteRepository.deleteById(favouriteId);
 	}
+	
+	/**
+	 * Evicts once the write has committed; evicting earlier would let a concurrent read
+	 * cache the rows as they were before it.
+	 */
+	private void evictUserFavourites(final Integer userId) {
+		if (userId == null)
+			return;
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			this.userFavouritesCache.invalidate(userId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(final int status) {
+				userFavouritesCache.invalidate(userId);
+			}
+		});
+	}
 
 	private FavouriteDto enrichRemoteData(final FavouriteDto favouriteDto) {
 		favouriteDto.setUserDto(this.userServiceClient.fetchUser(favouriteDto.getUserId()));
@@ -74,6 +136,25 @@ public class FavouriteServiceImpl implements FavouriteService {
 		return favouriteDto;
 	}
 	
+	/**
+	 * Enriches a whole page of favourites at once: distinct user and product ids are
+	 * resolved with one bulk call per service and then joined back onto the rows in memory,
+	 * so the number of remote calls no longer depends on the row count.
+	 */
+	private List<FavouriteDto> enrichRemoteData(final List<FavouriteDto> favouriteDtos) {
+		final Map<Integer, UserDto> userDtos = this.userServiceClient.fetchUsers(favouriteDtos.stream()
+				.map(FavouriteDto::getUserId)
+				.collect(Collectors.toSet()));
+		final Map<Integer, ProductDto> productDtos = this.productServiceClient.fetchProducts(favouriteDtos.stream()
+				.map(FavouriteDto::getProductId)
+				.collect(Collectors.toSet()));
+		favouriteDtos.forEach(favouriteDto -> {
+			favouriteDto.setUserDto(userDtos.get(favouriteDto.getUserId()));
+			favouriteDto.setProductDto(productDtos.get(favouriteDto.getProductId()));
+		});
+		return favouriteDtos;
+	}
+	
 	
 	
 }
@@ -61,6 +61,20 @@ class FavouriteResourceTest {
         verify(favouriteService).findAll();
     }
 
+    @Test
+    void testFindAllByUserId_ShouldReturnFavouritesOfUser() throws Exception {
+        // Given
+        when(favouriteService.findAllByUserId(1)).thenReturn(List.of(testFavouriteDto));
+
+        // When & Then
+        mockMvc.perform(get("/api/favourites/user/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.collection[0].userId").value(1))
+                .andExpect(jsonPath("$.collection[0].productId").value(1));
+
+        verify(favouriteService).findAllByUserId(1);
+    }
+
     @Test
     void testFindById_ShouldReturnFavourite() throws Exception {
         // Given
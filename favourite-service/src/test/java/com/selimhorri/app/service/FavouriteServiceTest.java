@@ -7,14 +7,17 @@ import static org.mockito.Mockito.*;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.selimhorri.app.client.ProductServiceClient;
 import com.selimhorri.app.client.UserServiceClient;
 import com.selimhorri.app.domain.Favourite;
@@ -38,7 +41,8 @@ class FavouriteServiceTest {
     @Mock
     private ProductServiceClient productServiceClient;
 
-    @InjectMocks
+    private Cache<Integer, List<FavouriteId>> userFavouritesCache;
+
     private FavouriteServiceImpl favouriteService;
 
     private Favourite testFavourite;
@@ -46,6 +50,10 @@ class FavouriteServiceTest {
 
     @BeforeEach
     void setUp() {
+        userFavouritesCache = Caffeine.newBuilder().build();
+        favouriteService = new FavouriteServiceImpl(favouriteRepository, userServiceClient,
+                productServiceClient, userFavouritesCache);
+
         testFavourite = Favourite.builder()
                 .userId(1)
                 .productId(1)
@@ -82,6 +90,88 @@ class FavouriteServiceTest {
         verify(favouriteRepository).findAll();
     }
 
+    @Test
+    void testFindAll_ShouldResolveDistinctIdsWithOneBulkCallPerService() {
+        // Given
+        List<Favourite> favourites = Arrays.asList(
+                Favourite.builder().userId(1).productId(1).likeDate(LocalDateTime.now()).build(),
+                Favourite.builder().userId(1).productId(2).likeDate(LocalDateTime.now()).build(),
+                Favourite.builder().userId(2).productId(1).likeDate(LocalDateTime.now()).build());
+        when(favouriteRepository.findAll()).thenReturn(favourites);
+        when(userServiceClient.fetchUsers(Set.of(1, 2))).thenReturn(Map.of(
+                1, UserDto.builder().userId(1).build(),
+                2, UserDto.builder().userId(2).build()));
+        when(productServiceClient.fetchProducts(Set.of(1, 2))).thenReturn(Map.of(
+                1, ProductDto.builder().productId(1).build(),
+                2, ProductDto.builder().productId(2).build()));
+
+        // When
+        List<FavouriteDto> result = favouriteService.findAll();
+
+        // Then
+        assertEquals(3, result.size());
+        result.forEach(favouriteDto -> {
+            assertNotNull(favouriteDto.getUserDto());
+            assertNotNull(favouriteDto.getProductDto());
+        });
+        verify(userServiceClient, times(1)).fetchUsers(Set.of(1, 2));
+        verify(productServiceClient, times(1)).fetchProducts(Set.of(1, 2));
+        verify(userServiceClient, never()).fetchUser(anyInt());
+        verify(productServiceClient, never()).fetchProduct(anyInt());
+    }
+
+    @Test
+    void testFindAllByUserId_ShouldReadKeysOnceAndServeRepeatsFromCache() {
+        // Given
+        LocalDateTime likeDate = LocalDateTime.now();
+        when(favouriteRepository.findAllIdsByUserId(1)).thenReturn(List.of(
+                new FavouriteId(1, 2, likeDate), new FavouriteId(1, 1, likeDate.minusDays(1))));
+        when(userServiceClient.fetchUsers(Set.of(1))).thenReturn(Map.of(1, UserDto.builder().userId(1).build()));
+        when(productServiceClient.fetchProducts(Set.of(1, 2))).thenReturn(Map.of(
+                1, ProductDto.builder().productId(1).build(),
+                2, ProductDto.builder().productId(2).build()));
+
+        // When
+        favouriteService.findAllByUserId(1);
+        List<FavouriteDto> result = favouriteService.findAllByUserId(1);
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(Integer.valueOf(2), result.get(0).getProductId());
+        assertEquals(Integer.valueOf(2), result.get(0).getProductDto().getProductId());
+        verify(favouriteRepository, times(1)).findAllIdsByUserId(1);
+        verify(favouriteRepository, never()).findAll();
+    }
+
+    @Test
+    void testSave_ShouldEvictCachedFavouritesOfUser() {
+        // Given
+        when(favouriteRepository.findAllIdsByUserId(1)).thenReturn(List.of());
+        when(favouriteRepository.save(any(Favourite.class))).thenReturn(testFavourite);
+        favouriteService.findAllByUserId(1);
+
+        // When
+        favouriteService.save(testFavouriteDto);
+        favouriteService.findAllByUserId(1);
+
+        // Then
+        verify(favouriteRepository, times(2)).findAllIdsByUserId(1);
+    }
+
+    @Test
+    void testDeleteById_ShouldEvictOnlyCachedFavouritesOfThatUser() {
+        // Given
+        userFavouritesCache.put(1, List.of(new FavouriteId(1, 1, LocalDateTime.now())));
+        userFavouritesCache.put(2, List.of(new FavouriteId(2, 1, LocalDateTime.now())));
+
+        // When
+        favouriteService.deleteById(new FavouriteId(1, 1, LocalDateTime.now()));
+
+        // Then
+        assertNull(userFavouritesCache.getIfPresent(1));
+        assertNotNull(userFavouritesCache.getIfPresent(2));
+    }
+
     @Test
     void testFindById_WhenFavouriteExists_ShouldReturnFavourite() {
         // Given
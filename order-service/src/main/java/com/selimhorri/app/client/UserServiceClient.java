@@ -1,5 +1,12 @@
 package com.selimhorri.app.client;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
@@ -7,11 +14,13 @@ import org.springframework.web.client.RestTemplate;
 import com.selimhorri.app.config.properties.AppFeatureProperties;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.commons.client.BulkLookups;
+import com.selimhorri.commons.client.LastKnownGoodCache;
+import com.selimhorri.commons.client.LastKnownGoodCacheFactory;
 
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -21,7 +30,6 @@ import lombok.extern.slf4j.Slf4j;
  * downstream outages.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class UserServiceClient {
 
@@ -29,6 +37,14 @@ public class UserServiceClient {
 
     private final RestTemplate restTemplate;
     private final AppFeatureProperties featureProperties;
+    private final LastKnownGoodCache<Integer, UserDto> lastKnownGood;
+
+    public UserServiceClient(final RestTemplate restTemplate, final AppFeatureProperties featureProperties,
+            final LastKnownGoodCacheFactory lastKnownGoodCacheFactory) {
+        this.restTemplate = restTemplate;
+        this.featureProperties = featureProperties;
+        this.lastKnownGood = lastKnownGoodCacheFactory.create(USER_SERVICE_CB, this::getUsers);
+    }
 
     @CircuitBreaker(name = USER_SERVICE_CB, fallbackMethod = "fallbackUser")
     @Retry(name = USER_SERVICE_CB)
@@ -42,6 +58,43 @@ public class UserServiceClient {
             return buildFallbackUser(userId, "enrichment-disabled");
         }
 
+        final UserDto userDto = getUser(userId);
+        lastKnownGood.put(userId, userDto);
+        return userDto;
+    }
+
+    @CircuitBreaker(name = USER_SERVICE_CB, fallbackMethod = "fallbackUsers")
+    @Retry(name = USER_SERVICE_CB)
+    @Bulkhead(name = USER_SERVICE_CB)
+    public Map<Integer, UserDto> fetchUsers(final Collection<Integer> userIds) {
+        final Set<Integer> distinctIds = BulkLookups.distinctIds(userIds);
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        if (!featureProperties.isEnrichRemoteData()) {
+            return BulkLookups.resolveAll(distinctIds, Map.of(), id -> buildFallbackUser(id, "enrichment-disabled"));
+        }
+
+        final Map<Integer, UserDto> userDtos = getUsers(distinctIds);
+        if (userDtos != null) {
+            lastKnownGood.putAll(userDtos);
+        }
+        return BulkLookups.resolveAll(distinctIds, userDtos, id -> buildFallbackUser(id, "not-found"));
+    }
+
+    /**
+     * Plain batch lookup, also used by the last-known-good cache to refresh entries in the
+     * background.
+     */
+    private Map<Integer, UserDto> getUsers(final Set<Integer> userIds) {
+        final String url = AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/batch";
+        return BulkLookups.inChunks(userIds, chunk -> restTemplate.exchange(url, HttpMethod.POST,
+                new HttpEntity<>(chunk), new ParameterizedTypeReference<Map<Integer, UserDto>>() {})
+                .getBody());
+    }
+
+    private UserDto getUser(final Integer userId) {
         final String url = AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/" + userId;
         return restTemplate.getForObject(url, UserDto.class);
     }
@@ -52,7 +105,19 @@ public class UserServiceClient {
             log.warn("Falling back to cached user representation for id {} due to {}", userId,
                     throwable == null ? "unknown error" : throwable.getMessage());
         }
-        return buildFallbackUser(userId, throwable == null ? "fallback" : throwable.getClass().getSimpleName());
+        return lastKnownGood.get(userId)
+                .orElseGet(() -> buildFallbackUser(userId, throwable == null ? "fallback" : throwable.getClass().getSimpleName()));
+    }
+
+    @SuppressWarnings("unused")
+    private Map<Integer, UserDto> fallbackUsers(final Collection<Integer> userIds, final Throwable throwable) {
+        if (featureProperties.isEnableResilienceLogs()) {
+            log.warn("Falling back to cached user representations for ids {} due to {}", userIds,
+                    throwable == null ? "unknown error" : throwable.getMessage());
+        }
+        final Set<Integer> distinctIds = BulkLookups.distinctIds(userIds);
+        final String reason = throwable == null ? "fallback" : throwable.getClass().getSimpleName();
+        return BulkLookups.resolveAll(distinctIds, lastKnownGood.getAll(distinctIds), id -> buildFallbackUser(id, reason));
     }
 
     private UserDto buildFallbackUser(final Integer userId, final String reason) {
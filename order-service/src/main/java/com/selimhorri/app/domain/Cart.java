@@ -13,7 +13,11 @@ import javax.persistence.Id;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.selimhorri.app.constant.AppConstant;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -33,7 +37,13 @@ public final class Cart extends AbstractMappedEntity implements Serializable {
 	private static final long serialVersionUID = 1L;
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "carts_seq")
+	@GenericGenerator(name = "carts_seq", strategy = "enhanced-sequence", parameters = {
+		@Parameter(name = "sequence_name", value = "carts_seq"),
+		@Parameter(name = "force_table_use", value = "true"),
+		@Parameter(name = "optimizer", value = "pooled-lo"),
+		@Parameter(name = "increment_size", value = AppConstant.ID_ALLOCATION_SIZE)
+	})
 	@Column(name = "cart_id", unique = true, nullable = false, updatable = false)
 	private Integer cartId;
 	
@@ -0,0 +1,66 @@
+package com.selimhorri.app.helper;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PageRequestHelper {
+	
+	public static final int MAX_PAGE_SIZE = 100;
+	
+	/**
+	 * Page size used by list endpoints that always page and get no {@code size} parameter.
+	 */
+	public static final String DEFAULT_PAGE_SIZE = "20";
+	
+	public static int boundedSize(final int size) {
+		return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+	}
+	
+	/**
+	 * Keyset pages read one row past the requested size so the presence of a next page
+	 * is known without a count query.
+	 */
+	public static Pageable keysetPage(final int size) {
+		return PageRequest.of(0, boundedSize(size) + 1);
+	}
+	
+	public static Pageable offsetPage(final int page, final int size, final Sort sort) {
+		return PageRequest.of(Math.max(page, 0), boundedSize(size), sort);
+	}
+	
+	public static <T> DtoCollectionResponse<T> keysetResponse(final List<T> rows, final int size, 
+			final Function<T, ?> cursorExtractor) {
+		final int boundedSize = boundedSize(size);
+		if (rows.size() <= boundedSize)
+			return new DtoCollectionResponse<>(rows);
+		final List<T> page = List.copyOf(rows.subList(0, boundedSize));
+		return new DtoCollectionResponse<>(page, String.valueOf(cursorExtractor.apply(page.get(boundedSize - 1))));
+	}
+	
+	public static <T> DtoCollectionResponse<T> offsetResponse(final Page<T> page) {
+		return new DtoCollectionResponse<>(page.getContent(), 
+				page.hasNext() ? String.valueOf(page.getNumber() + 1) : null);
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,11 +1,42 @@
 package com.selimhorri.app.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Order;
 
 public interface OrderRepository extends JpaRepository<Order, Integer> {
 	
+	@Query("SELECT o FROM Order o LEFT JOIN FETCH o.cart WHERE o.orderId IN :orderIds")
+	List<Order> findAllByOrderIdIn(@Param("orderIds") final Collection<Integer> orderIds);
+	
+	@Query("SELECT o FROM Order o LEFT JOIN FETCH o.cart WHERE o.orderId > :cursor ORDER BY o.orderId")
+	List<Order> findAllByOrderIdGreaterThan(@Param("cursor") final Integer cursor, final Pageable pageable);
+	
+	/**
+	 * Walks {@code idx_carts_user_id} to the user's carts and the cart_id foreign key index
+	 * to their orders, newest order first; {@code cursor} is the last order id already read.
+	 */
+	@Query("SELECT o FROM Order o JOIN FETCH o.cart c "
+			+ "WHERE c.userId = :userId AND o.orderId < :cursor ORDER BY o.orderId DESC")
+	List<Order> findAllByUserIdBefore(@Param("userId") final Integer userId, 
+			@Param("cursor") final Integer cursor, final Pageable pageable);
 	
+	@QueryHints({
+		@QueryHint(name = "org.hibernate.fetchSize", value = "" + AppConstant.EXPORT_FETCH_SIZE),
+		@QueryHint(name = "org.hibernate.readOnly", value = "true")
+	})
+	@Query("SELECT o FROM Order o LEFT JOIN FETCH o.cart ORDER BY o.orderId")
+	Stream<Order> streamAll();
 	
 }
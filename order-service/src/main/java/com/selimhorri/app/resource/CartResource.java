@@ -1,5 +1,7 @@
 package com.selimhorri.app.resource;
 
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.CartDto;
@@ -35,6 +38,14 @@ public class CartResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.cartService.findAll()));
 	}
 	
+	@GetMapping(params = "size")
+	public ResponseEntity<DtoCollectionResponse<CartDto>> findAll(
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam("size") final int size) {
+		log.info("*** CartDto List, controller; fetch carts page *");
+		return ResponseEntity.ok(this.cartService.findAll(cursor, size));
+	}
+	
 	@GetMapping("/{cartId}")
 	public ResponseEntity<CartDto> findById(
 			@PathVariable("cartId") 
@@ -53,6 +64,15 @@ public class CartResource {
 		return ResponseEntity.ok(this.cartService.save(cartDto));
 	}
 	
+	@PostMapping("/bulk")
+	public ResponseEntity<List<CartDto>> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final List<CartDto> cartDtos) {
+		log.info("*** CartDto List, resource; save all carts *");
+		return ResponseEntity.ok(this.cartService.saveAll(cartDtos));
+	}
+	
 	@PutMapping
 	public ResponseEntity<CartDto> update(
 			@RequestBody 
@@ -1,9 +1,15 @@
 package com.selimhorri.app.resource;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +18,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.service.OrderService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,6 +38,7 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderResource {
 	
 	private final OrderService orderService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
 	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAll() {
@@ -35,6 +46,41 @@ public class OrderResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderService.findAll()));
 	}
 	
+	@GetMapping(params = "size")
+	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAll(
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam("size") final int size) {
+		log.info("*** OrderDto List, controller; fetch orders page *");
+		return ResponseEntity.ok(this.orderService.findAll(cursor, size));
+	}
+	
+	@GetMapping("/user/{userId}")
+	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAllByUserId(
+			@PathVariable("userId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String userId, 
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam(name = "size", defaultValue = PageRequestHelper.DEFAULT_PAGE_SIZE) final int size) {
+		log.info("*** OrderDto List, resource; fetch orders page of user *");
+		return ResponseEntity.ok(this.orderService.findAllByUserId(Integer.parseInt(userId), cursor, size));
+	}
+	
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportAll() {
+		log.info("*** OrderDto Stream, resource; export all orders *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(outputStream -> this.orderService.exportAll(orderDto -> {
+					try {
+						outputStream.write(this.objectMapper.writeValueAsBytes(orderDto));
+						outputStream.write('\n');
+					}
+					catch (final IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}));
+	}
+	
 	@GetMapping("/{orderId}")
 	public ResponseEntity<OrderDto> findById(
 			@PathVariable("orderId") 
@@ -44,6 +90,15 @@ public class OrderResource {
 		return ResponseEntity.ok(this.orderService.findById(Integer.parseInt(orderId)));
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<Map<Integer, OrderDto>> findAllByIds(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final List<Integer> orderIds) {
+		log.info("*** OrderDto Map, resource; fetch orders by ids *");
+		return ResponseEntity.ok(this.orderService.findAllByIds(orderIds));
+	}
+	
 	@PostMapping
 	public ResponseEntity<OrderDto> save(
 			@RequestBody 
@@ -53,6 +108,15 @@ public class OrderResource {
 		return ResponseEntity.ok(this.orderService.save(orderDto));
 	}
 	
+	@PostMapping("/bulk")
+	public ResponseEntity<List<OrderDto>> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final List<OrderDto> orderDtos) {
+		log.info("*** OrderDto List, resource; save all orders *");
+		return ResponseEntity.ok(this.orderService.saveAll(orderDtos));
+	}
+	
 	@PutMapping
 	public ResponseEntity<OrderDto> update(
 			@RequestBody 
@@ -3,12 +3,15 @@ package com.selimhorri.app.service;
 import java.util.List;
 
 import com.selimhorri.app.dto.CartDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface CartService {
 	
 	List<CartDto> findAll();
+	DtoCollectionResponse<CartDto> findAll(final Integer cursor, final int size);
 	CartDto findById(final Integer cartId);
 	CartDto save(final CartDto cartDto);
+	List<CartDto> saveAll(final List<CartDto> cartDtos);
 	CartDto update(final CartDto cartDto);
 	CartDto update(final Integer cartId, final CartDto cartDto);
 	void deleteById(final Integer cartId);
@@ -1,14 +1,23 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface OrderService {
 	
 	List<OrderDto> findAll();
+	void exportAll(final Consumer<OrderDto> consumer);
+	DtoCollectionResponse<OrderDto> findAll(final Integer cursor, final int size);
+	DtoCollectionResponse<OrderDto> findAllByUserId(final Integer userId, final Integer cursor, final int size);
 	OrderDto findById(final Integer orderId);
+	Map<Integer, OrderDto> findAllByIds(final Collection<Integer> orderIds);
 	OrderDto save(final OrderDto orderDto);
+	List<OrderDto> saveAll(final List<OrderDto> orderDtos);
 	OrderDto update(final OrderDto orderDto);
 	OrderDto update(final Integer orderId, final OrderDto orderDto);
 	void deleteById(final Integer orderId);
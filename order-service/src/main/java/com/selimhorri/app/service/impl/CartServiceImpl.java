@@ -1,16 +1,20 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
 import com.selimhorri.app.client.UserServiceClient;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CartNotFoundException;
 import com.selimhorri.app.helper.CartMappingHelper;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.repository.CartRepository;
 import com.selimhorri.app.service.CartService;
 
@@ -27,17 +31,29 @@ public class CartServiceImpl implements CartService {
 	private final UserServiceClient userServiceClient;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<CartDto> findAll() {
 		log.info("*** CartDto List, service; fetch all carts *");
-		return this.cartRepository.findAll()
+		return this.enrichUsers(this.cartRepository.findAll()
 				.stream()
 					.map(CartMappingHelper::map)
-					.map(this::enrichUser)
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<CartDto> findAll(final Integer cursor, final int size) {
+		log.info("*** CartDto List, service; fetch carts page after cursor *");
+		return PageRequestHelper.keysetResponse(this.enrichUsers(this.cartRepository
+				.findAllByCartIdGreaterThan(cursor == null ? 0 : cursor, PageRequestHelper.keysetPage(size))
+				.stream()
+					.map(CartMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList())), size, CartDto::getCartId);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
 	public CartDto findById(final Integer cartId) {
 		log.info("*** CartDto, service; fetch cart by id *");
 		return this.cartRepository.findById(cartId)
@@ -54,6 +70,17 @@ public class CartServiceImpl implements CartService {
 				.save(CartMappingHelper.map(cartDto)));
 	}
 	
+	@Override
+	public List<CartDto> saveAll(final List<CartDto> cartDtos) {
+		log.info("*** CartDto List, service; save all carts *");
+		return this.cartRepository.saveAll(cartDtos.stream()
+					.map(CartMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()))
+				.stream()
+					.map(CartMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public CartDto update(final CartDto cartDto) {
 		log.info("*** CartDto, service; update cart *");
@@ -83,6 +110,18 @@ public class CartServiceImpl implements CartService {
 		return cartDto;
 	}
 	
+	private List<CartDto> enrichUsers(final List<CartDto> cartDtos) {
+		final Map<Integer, UserDto> userDtos = this.userServiceClient.fetchUsers(cartDtos.stream()
+				.map(CartDto::getUserDto)
+				.filter(Objects::nonNull)
+				.map(UserDto::getUserId)
+				.collect(Collectors.toSet()));
+		cartDtos.stream()
+				.filter(cartDto -> cartDto.getUserDto() != null && cartDto.getUserDto().getUserId() != null)
+				.forEach(cartDto -> cartDto.setUserDto(userDtos.get(cartDto.getUserDto().getUserId())));
+		return cartDtos;
+	}
+	
 	
 	
 }
@@ -1,15 +1,27 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Order;
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
 import com.selimhorri.app.helper.OrderMappingHelper;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.repository.OrderRepository;
 import com.selimhorri.app.service.OrderService;
 
@@ -23,8 +35,10 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderServiceImpl implements OrderService {
 	
 	private final OrderRepository orderRepository;
+	private final EntityManager entityManager;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<OrderDto> findAll() {
 		log.info("*** OrderDto List, service; fetch all orders *");
 		return this.orderRepository.findAll()
@@ -35,6 +49,44 @@ public class OrderServiceImpl implements OrderService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<OrderDto> findAll(final Integer cursor, final int size) {
+		log.info("*** OrderDto List, service; fetch orders page after cursor *");
+		return PageRequestHelper.keysetResponse(this.orderRepository
+				.findAllByOrderIdGreaterThan(cursor == null ? 0 : cursor, PageRequestHelper.keysetPage(size))
+				.stream()
+					.map(OrderMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), size, OrderDto::getOrderId);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<OrderDto> findAllByUserId(final Integer userId, final Integer cursor, final int size) {
+		log.info("*** OrderDto List, service; fetch orders page of user *");
+		return PageRequestHelper.keysetResponse(this.orderRepository
+				.findAllByUserIdBefore(userId, cursor == null ? Integer.MAX_VALUE : cursor, PageRequestHelper.keysetPage(size))
+				.stream()
+					.map(OrderMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), size, OrderDto::getOrderId);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public void exportAll(final Consumer<OrderDto> consumer) {
+		log.info("*** OrderDto Stream, service; export all orders *");
+		try (final Stream<Order> orders = this.orderRepository.streamAll()) {
+			final Iterator<Order> iterator = orders.iterator();
+			int exported = 0;
+			while (iterator.hasNext()) {
+				consumer.accept(OrderMappingHelper.map(iterator.next()));
+				if (++exported % AppConstant.EXPORT_FETCH_SIZE == 0)
+					this.entityManager.clear();
+			}
+		}
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
 	public OrderDto findById(final Integer orderId) {
 		log.info("*** OrderDto, service; fetch order by id *");
 		return this.orderRepository.findById(orderId)
@@ -43,6 +95,21 @@ public class OrderServiceImpl implements OrderService {
 						.format("Order with id: %d not found", orderId)));
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Integer, OrderDto> findAllByIds(final Collection<Integer> orderIds) {
+		log.info("*** OrderDto Map, service; fetch orders by ids *");
+		final var distinctIds = orderIds.stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet());
+		if (distinctIds.isEmpty())
+			return Map.of();
+		return this.orderRepository.findAllByOrderIdIn(distinctIds)
+				.stream()
+					.map(OrderMappingHelper::map)
+					.collect(Collectors.toUnmodifiableMap(OrderDto::getOrderId, Function.identity()));
+	}
+	
 	@Override
 	public OrderDto save(final OrderDto orderDto) {
 		log.info("*** OrderDto, service; save order *");
@@ -50,6 +117,17 @@ public class OrderServiceImpl implements OrderService {
 				.save(OrderMappingHelper.map(orderDto)));
 	}
 	
+	@Override
+	public List<OrderDto> saveAll(final List<OrderDto> orderDtos) {
+		log.info("*** OrderDto List, service; save all orders *");
+		return this.orderRepository.saveAll(orderDtos.stream()
+					.map(OrderMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()))
+				.stream()
+					.map(OrderMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public OrderDto update(final OrderDto orderDto) {
 		log.info("*** OrderDto, service; update order *");
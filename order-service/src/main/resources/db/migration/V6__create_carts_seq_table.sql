@@ -0,0 +1,8 @@
+
+CREATE TABLE carts_seq (
+	next_val BIGINT NOT NULL
+);
+
+INSERT INTO carts_seq (next_val)
+SELECT COALESCE(MAX(cart_id), 0) + 1 FROM carts;
+
@@ -0,0 +1,3 @@
+
+CREATE INDEX idx_carts_user_id ON carts (user_id);
+
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.service.OrderService;
 
 @WebMvcTest(OrderResource.class)
@@ -72,6 +73,36 @@ class OrderResourceTest {
                 verify(orderService).findAll();
         }
 
+        @Test
+        void testFindAllByUserId_ShouldReturnPageWithNextCursor() throws Exception {
+                // Given
+                when(orderService.findAllByUserId(1, null, 1))
+                                .thenReturn(new DtoCollectionResponse<>(List.of(testOrderDto), "1"));
+
+                // When & Then
+                mockMvc.perform(get("/api/orders/user/{userId}", 1).param("size", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.collection[0].orderId").value(1))
+                                .andExpect(jsonPath("$.nextCursor").value("1"));
+
+                verify(orderService).findAllByUserId(1, null, 1);
+        }
+
+        @Test
+        void testFindAllByUserId_WithoutSize_ShouldUseDefaultPageSize() throws Exception {
+                // Given
+                int defaultSize = Integer.parseInt(PageRequestHelper.DEFAULT_PAGE_SIZE);
+                when(orderService.findAllByUserId(1, null, defaultSize))
+                                .thenReturn(new DtoCollectionResponse<>(List.of(testOrderDto)));
+
+                // When & Then
+                mockMvc.perform(get("/api/orders/user/{userId}", 1))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.collection[0].orderId").value(1));
+
+                verify(orderService).findAllByUserId(1, null, defaultSize);
+        }
+
         @Test
         void testFindById_ShouldReturnOrder() throws Exception {
                 // Given
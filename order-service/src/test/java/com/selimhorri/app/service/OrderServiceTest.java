@@ -7,6 +7,7 @@ import static org.mockito.Mockito.*;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -21,6 +22,7 @@ import com.selimhorri.app.domain.Cart;
 import com.selimhorri.app.domain.Order;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
 import com.selimhorri.app.repository.OrderRepository;
 import com.selimhorri.app.service.impl.OrderServiceImpl;
@@ -104,6 +106,45 @@ class OrderServiceTest {
         verify(orderRepository).findById(orderId);
     }
 
+    @Test
+    void testFindAllByIds_ShouldReturnOrdersKeyedById() {
+        // Given
+        when(orderRepository.findAllByOrderIdIn(Set.of(1))).thenReturn(List.of(testOrder));
+
+        // When
+        Map<Integer, OrderDto> result = orderService.findAllByIds(Arrays.asList(1, 1, null));
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("Test Order", result.get(1).getOrderDesc());
+        verify(orderRepository, never()).findById(anyInt());
+    }
+
+    @Test
+    void testFindAllByUserId_ShouldReadOnePageNewestFirstAndReturnCursor() {
+        // Given
+        Order olderOrder = Order.builder()
+                .orderId(2)
+                .orderDesc("Older Order")
+                .cart(testOrder.getCart())
+                .build();
+        Order newerOrder = Order.builder()
+                .orderId(3)
+                .orderDesc("Newer Order")
+                .cart(testOrder.getCart())
+                .build();
+        when(orderRepository.findAllByUserIdBefore(eq(1), eq(Integer.MAX_VALUE), any()))
+                .thenReturn(List.of(newerOrder, olderOrder, testOrder));
+
+        // When
+        DtoCollectionResponse<OrderDto> result = orderService.findAllByUserId(1, null, 2);
+
+        // Then
+        assertEquals(2, result.getCollection().size());
+        assertEquals("2", result.getNextCursor());
+        verify(orderRepository, never()).findAll();
+    }
+
     @Test
     void testFindById_WhenOrderNotExists_ShouldThrowException() {
         // Given
@@ -1,5 +1,12 @@
 package com.selimhorri.app.client;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
@@ -7,6 +14,7 @@ import org.springframework.web.client.RestTemplate;
 import com.selimhorri.app.config.properties.AppFeatureProperties;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.commons.client.BulkLookups;
 
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
@@ -40,6 +48,26 @@ public class OrderServiceClient {
         return restTemplate.getForObject(url, OrderDto.class);
     }
 
+    @CircuitBreaker(name = ORDER_SERVICE_CB, fallbackMethod = "fallbackOrders")
+    @Retry(name = ORDER_SERVICE_CB)
+    @Bulkhead(name = ORDER_SERVICE_CB)
+    public Map<Integer, OrderDto> fetchOrders(final Collection<Integer> orderIds) {
+        final Set<Integer> distinctIds = BulkLookups.distinctIds(orderIds);
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        if (!featureProperties.isEnrichRemoteData()) {
+            return BulkLookups.resolveAll(distinctIds, Map.of(), id -> buildFallbackOrder(id, "enrichment-disabled"));
+        }
+
+        final String url = AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/batch";
+        final Map<Integer, OrderDto> orderDtos = restTemplate.exchange(url, HttpMethod.POST,
+                new HttpEntity<>(distinctIds), new ParameterizedTypeReference<Map<Integer, OrderDto>>() {})
+                .getBody();
+        return BulkLookups.resolveAll(distinctIds, orderDtos, id -> buildFallbackOrder(id, "not-found"));
+    }
+
     @SuppressWarnings("unused")
     private OrderDto fallbackOrder(final Integer orderId, final Throwable throwable) {
         if (featureProperties.isEnableResilienceLogs()) {
@@ -49,6 +77,16 @@ public class OrderServiceClient {
         return buildFallbackOrder(orderId, throwable == null ? "fallback" : throwable.getClass().getSimpleName());
     }
 
+    @SuppressWarnings("unused")
+    private Map<Integer, OrderDto> fallbackOrders(final Collection<Integer> orderIds, final Throwable throwable) {
+        if (featureProperties.isEnableResilienceLogs()) {
+            log.warn("Falling back to placeholder order representations for ids {} due to {}", orderIds,
+                    throwable == null ? "unknown error" : throwable.getMessage());
+        }
+        final String reason = throwable == null ? "fallback" : throwable.getClass().getSimpleName();
+        return BulkLookups.resolveAll(BulkLookups.distinctIds(orderIds), Map.of(), id -> buildFallbackOrder(id, reason));
+    }
+
     private OrderDto buildFallbackOrder(final Integer orderId, final String reason) {
         return OrderDto.builder()
                 .orderId(orderId)
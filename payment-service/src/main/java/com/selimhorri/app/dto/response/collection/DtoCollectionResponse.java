@@ -2,6 +2,8 @@ package com.selimhorri.app.dto.response.collection;
 
 import java.util.Collection;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +17,13 @@ public class DtoCollectionResponse<T> {
 	
 	private Collection<T> collection;
 	
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private String nextCursor;
+	
+	public DtoCollectionResponse(final Collection<T> collection) {
+		this.collection = collection;
+	}
+	
 }
 
 
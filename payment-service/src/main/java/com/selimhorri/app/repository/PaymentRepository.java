@@ -1,11 +1,33 @@
 package com.selimhorri.app.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Payment;
 
 public interface PaymentRepository extends JpaRepository<Payment, Integer> {
 	
+	@Query("SELECT p FROM Payment p WHERE p.paymentId > :cursor ORDER BY p.paymentId")
+	List<Payment> findAllByPaymentIdGreaterThan(@Param("cursor") final Integer cursor, final Pageable pageable);
+	
+	@Query("SELECT p FROM Payment p WHERE p.orderId IN :orderIds ORDER BY p.paymentId")
+	List<Payment> findAllByOrderIdIn(@Param("orderIds") final Collection<Integer> orderIds);
 	
+	@QueryHints({
+		@QueryHint(name = "org.hibernate.fetchSize", value = "" + AppConstant.EXPORT_FETCH_SIZE),
+		@QueryHint(name = "org.hibernate.readOnly", value = "true")
+	})
+	@Query("SELECT p FROM Payment p ORDER BY p.paymentId")
+	Stream<Payment> streamAll();
 	
 }
@@ -1,9 +1,15 @@
 package com.selimhorri.app.resource;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,8 +18,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.dto.PaymentDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.PaymentService;
@@ -28,6 +37,7 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentResource {
 	
 	private final PaymentService paymentService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
 	public ResponseEntity<DtoCollectionResponse<PaymentDto>> findAll() {
@@ -35,6 +45,30 @@ public class PaymentResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.paymentService.findAll()));
 	}
 	
+	@GetMapping(params = "size")
+	public ResponseEntity<DtoCollectionResponse<PaymentDto>> findAll(
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam("size") final int size) {
+		log.info("*** PaymentDto List, controller; fetch payments page *");
+		return ResponseEntity.ok(this.paymentService.findAll(cursor, size));
+	}
+	
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportAll() {
+		log.info("*** PaymentDto Stream, resource; export all payments *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(outputStream -> this.paymentService.exportAll(paymentDto -> {
+					try {
+						outputStream.write(this.objectMapper.writeValueAsBytes(paymentDto));
+						outputStream.write('\n');
+					}
+					catch (final IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}));
+	}
+	
 	@GetMapping("/{paymentId}")
 	public ResponseEntity<PaymentDto> findById(
 			@PathVariable("paymentId") 
@@ -44,6 +78,25 @@ public class PaymentResource {
 		return ResponseEntity.ok(this.paymentService.findById(Integer.parseInt(paymentId)));
 	}
 	
+	@GetMapping("/order/{orderId}")
+	public ResponseEntity<PaymentDto> findByOrderId(
+			@PathVariable("orderId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String orderId) {
+		log.info("*** PaymentDto, resource; fetch payment by order id *");
+		return ResponseEntity.ok(this.paymentService.findByOrderId(Integer.parseInt(orderId)));
+	}
+	
+	@PostMapping("/order/batch")
+	public ResponseEntity<Map<Integer, PaymentDto>> findAllByOrderIds(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final List<Integer> orderIds, 
+			@RequestParam(name = "enrich", defaultValue = "true") final boolean enrich) {
+		log.info("*** PaymentDto Map, resource; fetch payments by order ids *");
+		return ResponseEntity.ok(this.paymentService.findAllByOrderIds(orderIds, enrich));
+	}
+	
 	@PostMapping
 	public ResponseEntity<PaymentDto> save(
 			@RequestBody 
@@ -53,6 +106,15 @@ public class PaymentResource {
 		return ResponseEntity.ok(this.paymentService.save(paymentDto));
 	}
 	
+	@PostMapping("/bulk")
+	public ResponseEntity<List<PaymentDto>> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final List<PaymentDto> paymentDtos) {
+		log.info("*** PaymentDto List, resource; save all payments *");
+		return ResponseEntity.ok(this.paymentService.saveAll(paymentDtos));
+	}
+	
 	@PutMapping
 	public ResponseEntity<PaymentDto> update(
 			@RequestBody 
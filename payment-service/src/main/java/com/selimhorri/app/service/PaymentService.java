@@ -1,14 +1,23 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface PaymentService {
 	
 	List<PaymentDto> findAll();
+	void exportAll(final Consumer<PaymentDto> consumer);
+	DtoCollectionResponse<PaymentDto> findAll(final Integer cursor, final int size);
 	PaymentDto findById(final Integer paymentId);
+	PaymentDto findByOrderId(final Integer orderId);
+	Map<Integer, PaymentDto> findAllByOrderIds(final Collection<Integer> orderIds, final boolean enrichOrders);
 	PaymentDto save(final PaymentDto paymentDto);
+	List<PaymentDto> saveAll(final List<PaymentDto> paymentDtos);
 	PaymentDto update(final PaymentDto paymentDto);
 	void deleteById(final Integer paymentId);
 	
@@ -1,15 +1,29 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
 import com.selimhorri.app.client.OrderServiceClient;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Payment;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.helper.PaymentMappingHelper;
 import com.selimhorri.app.repository.PaymentRepository;
 import com.selimhorri.app.service.PaymentService;
@@ -24,20 +38,52 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentServiceImpl implements PaymentService {
 	
 	private final PaymentRepository paymentRepository;
+	private final EntityManager entityManager;
 	private final OrderServiceClient orderServiceClient;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<PaymentDto> findAll() {
 		log.info("*** PaymentDto List, service; fetch all payments *");
-		return this.paymentRepository.findAll()
+		return this.enrichOrders(this.paymentRepository.findAll()
 				.stream()
 					.map(PaymentMappingHelper::map)
-					.map(this::enrichOrder)
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<PaymentDto> findAll(final Integer cursor, final int size) {
+		log.info("*** PaymentDto List, service; fetch payments page after cursor *");
+		return PageRequestHelper.keysetResponse(this.enrichOrders(this.paymentRepository
+				.findAllByPaymentIdGreaterThan(cursor == null ? 0 : cursor, PageRequestHelper.keysetPage(size))
+				.stream()
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList())), size, PaymentDto::getPaymentId);
 	}
 	
+	/**
+	 * Exports the local payment rows only; resolving each order remotely would turn a
+	 * full-table export into one HTTP call per row.
+	 */
 	@Override
+	@Transactional(readOnly = true)
+	public void exportAll(final Consumer<PaymentDto> consumer) {
+		log.info("*** PaymentDto Stream, service; export all payments *");
+		try (final Stream<Payment> payments = this.paymentRepository.streamAll()) {
+			final Iterator<Payment> iterator = payments.iterator();
+			int exported = 0;
+			while (iterator.hasNext()) {
+				consumer.accept(PaymentMappingHelper.map(iterator.next()));
+				if (++exported % AppConstant.EXPORT_FETCH_SIZE == 0)
+					this.entityManager.clear();
+			}
+		}
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
 	public PaymentDto findById(final Integer paymentId) {
 		log.info("*** PaymentDto, service; fetch payment by id *");
 		return this.paymentRepository.findById(paymentId)
@@ -46,6 +92,38 @@ public class PaymentServiceImpl implements PaymentService {
 				.orElseThrow(() -> new PaymentNotFoundException(String.format("Payment with id: %d not found", paymentId)));
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public PaymentDto findByOrderId(final Integer orderId) {
+		log.info("*** PaymentDto, service; fetch payment by order id *");
+		return Optional.ofNullable(this.findAllByOrderIds(List.of(orderId), true).get(orderId))
+				.orElseThrow(() -> new PaymentNotFoundException(String.format("Payment of order with id: %d not found", orderId)));
+	}
+	
+	/**
+	 * Keeps the latest payment of each order, with all orders resolved in one remote call.
+	 * Without enrichment each payment carries only its orderId, for callers that hold the
+	 * order already.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Integer, PaymentDto> findAllByOrderIds(final Collection<Integer> orderIds, final boolean enrichOrders) {
+		log.info("*** PaymentDto Map, service; fetch payments by order ids *");
+		final var distinctIds = orderIds.stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet());
+		if (distinctIds.isEmpty())
+			return Map.of();
+		final List<PaymentDto> paymentDtos = this.paymentRepository.findAllByOrderIdIn(distinctIds)
+				.stream()
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+		return (enrichOrders ? this.enrichOrders(paymentDtos) : paymentDtos)
+				.stream()
+					.collect(Collectors.toUnmodifiableMap(paymentDto -> paymentDto.getOrderDto().getOrderId(), 
+							Function.identity(), (earlier, later) -> later));
+	}
+	
 	@Override
 	public PaymentDto save(final PaymentDto paymentDto) {
 		log.info("*** PaymentDto, service; save payment *");
@@ -53,6 +131,17 @@ public class PaymentServiceImpl implements PaymentService {
 				.save(PaymentMappingHelper.map(paymentDto)));
 	}
 	
+	@Override
+	public List<PaymentDto> saveAll(final List<PaymentDto> paymentDtos) {
+		log.info("*** PaymentDto List, service; save all payments *");
+		return this.paymentRepository.saveAll(paymentDtos.stream()
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()))
+				.stream()
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public PaymentDto update(final PaymentDto paymentDto) {
 		log.info("*** PaymentDto, service; update payment *");
@@ -66,6 +155,19 @@ public class PaymentServiceImpl implements PaymentService {
 		this.paymentRepository.deleteById(paymentId);
 	}
 
+	private List<PaymentDto> enrichOrders(final List<PaymentDto> paymentDtos) {
+		final Map<Integer, OrderDto> orderDtos = this.orderServiceClient.fetchOrders(paymentDtos.stream()
+				.map(PaymentDto::getOrderDto)
+				.filter(Objects::nonNull)
+				.map(OrderDto::getOrderId)
+				.collect(Collectors.toUnmodifiableList()));
+		paymentDtos.stream()
+				.filter(paymentDto -> paymentDto.getOrderDto() != null 
+						&& orderDtos.containsKey(paymentDto.getOrderDto().getOrderId()))
+				.forEach(paymentDto -> paymentDto.setOrderDto(orderDtos.get(paymentDto.getOrderDto().getOrderId())));
+		return paymentDtos;
+	}
+	
 	private PaymentDto enrichOrder(final PaymentDto paymentDto) {
 		final OrderDto orderDto = paymentDto.getOrderDto();
 		if (orderDto == null) {
@@ -4,13 +4,21 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.config.properties.AppFeatureProperties;
@@ -88,5 +96,23 @@ class OrderServiceClientTest {
         assertTrue(result.getOrderDesc().contains("missing-order-id"));
         verify(restTemplate, never()).getForObject(anyString(), any());
     }
-}
 
+    @Test
+    @DisplayName("Should resolve distinct orders in one batch call")
+    void testFetchOrders_ShouldCallBatchEndpointOnce() {
+        // Given
+        when(featureProperties.isEnrichRemoteData()).thenReturn(true);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class),
+                ArgumentMatchers.<ParameterizedTypeReference<Map<Integer, OrderDto>>>any()))
+                .thenReturn(ResponseEntity.ok(Map.of(orderId, orderDto)));
+
+        // When
+        Map<Integer, OrderDto> result = orderServiceClient.fetchOrders(List.of(orderId, orderId, 2));
+
+        // Then
+        assertEquals(orderDto, result.get(orderId));
+        assertTrue(result.get(2).getOrderDesc().contains("not-found"));
+        verify(restTemplate, times(1)).exchange(endsWith("/batch"), eq(HttpMethod.POST), any(HttpEntity.class),
+                ArgumentMatchers.<ParameterizedTypeReference<Map<Integer, OrderDto>>>any());
+    }
+}
@@ -8,6 +8,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+
 import com.selimhorri.app.client.OrderServiceClient;
 import com.selimhorri.app.domain.Payment;
 import com.selimhorri.app.domain.PaymentStatus;
@@ -110,6 +112,51 @@ class PaymentServiceTest {
         verify(paymentRepository).findById(paymentId);
     }
 
+    @Test
+    void testFindAllByOrderIds_ShouldKeepLatestPaymentAndResolveOrdersInBulk() {
+        // Given
+        Payment retried = Payment.builder()
+                .paymentId(2)
+                .paymentStatus(PaymentStatus.COMPLETED)
+                .orderId(1)
+                .build();
+        when(paymentRepository.findAllByOrderIdIn(anyCollection())).thenReturn(Arrays.asList(testPayment, retried));
+        when(orderServiceClient.fetchOrders(anyCollection())).thenReturn(Map.of(1, testPaymentDto.getOrderDto()));
+
+        // When
+        Map<Integer, PaymentDto> result = paymentService.findAllByOrderIds(List.of(1, 1), true);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(2, result.get(1).getPaymentId());
+        assertEquals("Test Order", result.get(1).getOrderDto().getOrderDesc());
+        verify(orderServiceClient, times(1)).fetchOrders(anyCollection());
+        verify(orderServiceClient, never()).fetchOrder(anyInt());
+    }
+
+    @Test
+    void testFindAllByOrderIds_WithoutEnrichment_ShouldNotCallOrderService() {
+        // Given
+        when(paymentRepository.findAllByOrderIdIn(anyCollection())).thenReturn(List.of(testPayment));
+
+        // When
+        Map<Integer, PaymentDto> result = paymentService.findAllByOrderIds(List.of(1), false);
+
+        // Then
+        assertEquals(1, result.get(1).getOrderDto().getOrderId());
+        verifyNoInteractions(orderServiceClient);
+    }
+
+    @Test
+    void testFindByOrderId_WhenOrderHasNoPayment_ShouldThrowException() {
+        // Given
+        when(paymentRepository.findAllByOrderIdIn(anyCollection())).thenReturn(List.of());
+
+        // When & Then
+        assertThrows(PaymentNotFoundException.class, () -> paymentService.findByOrderId(5));
+        verify(paymentRepository, never()).findAll();
+    }
+
     @Test
     void testSave_ShouldReturnSavedPayment() {
         // Given
@@ -0,0 +1,78 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * ETags of the whole-catalog listings, so a conditional GET of a list does not aggregate the
+ * table on every request. Writes on this instance evict after their transaction completes;
+ * writes on other instances are picked up once the entry expires, like the second-level cache.
+ *
+ * <p>A missing version is computed in its own read-write transaction, i.e. on the primary, so a
+ * lagging replica cannot pin an outdated ETag for the whole ttl.
+ */
+@Component
+public class CatalogEtagCache {
+	
+	public static final String PRODUCTS = "products";
+	public static final String CATEGORIES = "categories";
+	
+	private final Cache<String, String> cache;
+	private final TransactionTemplate primaryTransaction;
+	
+	public CatalogEtagCache(final PlatformTransactionManager transactionManager, 
+			@Value("${app.cache.second-level.ttl:10m}") final Duration ttl, 
+			final MeterRegistry meterRegistry) {
+		this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.<String, String>build(), "catalogEtags");
+		this.primaryTransaction = new TransactionTemplate(transactionManager);
+		this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+	
+	public String get(final String catalog, final Supplier<String> etagLoader) {
+		return this.cache.get(catalog, key -> this.primaryTransaction.execute(status -> etagLoader.get()));
+	}
+	
+	public void evictAfterCompletion(final String... catalogs) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			this.cache.invalidateAll(List.of(catalogs));
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(final int status) {
+				cache.invalidateAll(List.of(catalogs));
+			}
+		});
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
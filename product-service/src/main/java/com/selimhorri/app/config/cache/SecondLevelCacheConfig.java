@@ -0,0 +1,80 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.selimhorri.app.constant.AppConstant;
+
+@Configuration
+public class SecondLevelCacheConfig {
+	
+	/**
+	 * Entity and query-result regions are bounded by size and expire after write,
+	 * so an instance never serves a row another instance changed for longer than the ttl.
+	 * The update-timestamps region must outlive every cached query, hence no bounds there.
+	 */
+	@Bean(destroyMethod = "close")
+	public CacheManager secondLevelCacheManager(
+			@Value("${app.cache.second-level.maximum-size:10000}") final long maximumSize,
+			@Value("${app.cache.second-level.ttl:10m}") final Duration ttl) {
+		
+		final CacheManager cacheManager = Caching
+				.getCachingProvider(CaffeineCachingProvider.class.getName())
+				.getCacheManager();
+		
+		createIfAbsent(cacheManager, AppConstant.CacheRegions.PRODUCT, boundedRegion(maximumSize, ttl));
+		createIfAbsent(cacheManager, AppConstant.CacheRegions.CATEGORY, boundedRegion(maximumSize, ttl));
+		createIfAbsent(cacheManager, AppConstant.CacheRegions.QUERY_RESULTS, boundedRegion(maximumSize, ttl));
+		createIfAbsent(cacheManager, AppConstant.CacheRegions.UPDATE_TIMESTAMPS, region());
+		
+		return cacheManager;
+	}
+	
+	@Bean
+	public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(final CacheManager secondLevelCacheManager) {
+		return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+	}
+	
+	private static CaffeineConfiguration<Object, Object> boundedRegion(final long maximumSize, final Duration ttl) {
+		final CaffeineConfiguration<Object, Object> configuration = region();
+		configuration.setMaximumSize(OptionalLong.of(maximumSize));
+		configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+		return configuration;
+	}
+	
+	private static CaffeineConfiguration<Object, Object> region() {
+		final CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+		configuration.setStatisticsEnabled(true);
+		return configuration;
+	}
+	
+	private static void createIfAbsent(final CacheManager cacheManager, final String region,
+			final CaffeineConfiguration<Object, Object> configuration) {
+		if (cacheManager.getCache(region) == null)
+			cacheManager.createCache(region, configuration);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
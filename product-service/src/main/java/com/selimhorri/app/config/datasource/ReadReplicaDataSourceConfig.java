@@ -0,0 +1,112 @@
+package com.selimhorri.app.config.datasource;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.util.StringUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Only active once {@code app.datasource.replica.url} is set; without it the auto-configured
+ * {@code spring.datasource} pool serves every query. The replica takes its credentials from
+ * {@code spring.datasource} unless it has its own.
+ * <p>
+ * The JPA vendor adapter replaces Boot's default only to hand out a {@link ReadReplicaJpaDialect};
+ * the {@code spring.jpa} settings it applies are the same.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class ReadReplicaDataSourceConfig {
+	
+	@Bean
+	@Primary
+	@ConfigurationProperties("spring.datasource")
+	public DataSourceProperties primaryDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+	
+	@Bean
+	@ConfigurationProperties("app.datasource.replica")
+	public DataSourceProperties replicaDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+	
+	@Bean
+	@FlywayDataSource
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource() {
+		final HikariDataSource primaryDataSource = this.primaryDataSourceProperties()
+				.initializeDataSourceBuilder()
+				.type(HikariDataSource.class)
+				.build();
+		primaryDataSource.setPoolName("primary");
+		return primaryDataSource;
+	}
+	
+	@Bean
+	@ConfigurationProperties("app.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource() {
+		final DataSourceProperties replicaDataSourceProperties = this.replicaDataSourceProperties();
+		final DataSourceBuilder<HikariDataSource> builder = replicaDataSourceProperties
+				.initializeDataSourceBuilder()
+				.type(HikariDataSource.class);
+		if (!StringUtils.hasText(replicaDataSourceProperties.getUsername()))
+			builder.username(this.primaryDataSourceProperties().determineUsername())
+					.password(this.primaryDataSourceProperties().determinePassword());
+		final HikariDataSource replicaDataSource = builder.build();
+		replicaDataSource.setPoolName("replica");
+		replicaDataSource.setReadOnly(true);
+		return replicaDataSource;
+	}
+	
+	@Bean
+	@Primary
+	public DataSource dataSource() {
+		return new LazyConnectionDataSourceProxy(
+				new ReadReplicaRoutingDataSource(this.primaryDataSource(), this.replicaDataSource()));
+	}
+	
+	@Bean
+	public JpaVendorAdapter jpaVendorAdapter(final JpaProperties jpaProperties) {
+		final HibernateJpaDialect jpaDialect = new ReadReplicaJpaDialect();
+		final HibernateJpaVendorAdapter jpaVendorAdapter = new HibernateJpaVendorAdapter() {
+			@Override
+			public HibernateJpaDialect getJpaDialect() {
+				return jpaDialect;
+			}
+		};
+		jpaVendorAdapter.setShowSql(jpaProperties.isShowSql());
+		if (jpaProperties.getDatabase() != null)
+			jpaVendorAdapter.setDatabase(jpaProperties.getDatabase());
+		if (jpaProperties.getDatabasePlatform() != null)
+			jpaVendorAdapter.setDatabasePlatform(jpaProperties.getDatabasePlatform());
+		jpaVendorAdapter.setGenerateDdl(jpaProperties.isGenerateDdl());
+		return jpaVendorAdapter;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,43 @@
+package com.selimhorri.app.config.datasource;
+
+import java.sql.SQLException;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * Read-only transactions are answered by the replica, which may lag behind the primary. Their
+ * sessions still read the second-level and query caches but never write to them, so a stale
+ * replica row cannot outlive the lag by sitting in the cache. Entries are filled by writes and
+ * by reads inside read-write transactions, both of which run on the primary.
+ */
+public class ReadReplicaJpaDialect extends HibernateJpaDialect {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@Override
+	public Object beginTransaction(final EntityManager entityManager, final TransactionDefinition definition) 
+			throws SQLException {
+		final Object transactionData = super.beginTransaction(entityManager, definition);
+		if (definition.isReadOnly())
+			entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+		return transactionData;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
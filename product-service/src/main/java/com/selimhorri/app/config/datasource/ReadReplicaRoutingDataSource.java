@@ -0,0 +1,45 @@
+package com.selimhorri.app.config.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hands out replica connections inside read-only transactions and primary connections
+ * everywhere else, including reads that join a read-write transaction. Has to sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction
+ * manager asks for a connection before the read-only flag of the transaction is published.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+	
+	enum Route {
+		PRIMARY, REPLICA
+	}
+	
+	public ReadReplicaRoutingDataSource(final DataSource primaryDataSource, final DataSource replicaDataSource) {
+		this.setTargetDataSources(Map.<Object, Object>of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+		this.setDefaultTargetDataSource(primaryDataSource);
+		this.afterPropertiesSet();
+	}
+	
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,25 @@
+package com.selimhorri.app.config.jpa;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * Kept apart from the application class so web slices do not need a JPA metamodel.
+ */
+@Configuration
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
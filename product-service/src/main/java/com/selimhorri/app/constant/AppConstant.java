@@ -11,6 +11,30 @@ public abstract class AppConstant {
 	public static final String ZONED_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String INSTANT_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	
+	/**
+	 * Ids reserved per round trip to an entity's id table, kept equal to
+	 * {@code hibernate.jdbc.batch_size} so one batch needs at most one reservation.
+	 */
+	public static final String ID_ALLOCATION_SIZE = "50";
+	
+	public static final int EXPORT_FETCH_SIZE = 500;
+	
+	/**
+	 * Most ids one POST /batch lookup accepts, so a single request cannot turn into an
+	 * unbounded IN list and response.
+	 */
+	public static final int MAX_BATCH_SIZE = 100;
+	
+	@NoArgsConstructor(access = AccessLevel.PRIVATE)
+	public abstract class CacheRegions {
+		
+		public static final String PRODUCT = "product";
+		public static final String CATEGORY = "category";
+		public static final String QUERY_RESULTS = "default-query-results-region";
+		public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+		
+	}
+	
 	@NoArgsConstructor(access = AccessLevel.PRIVATE)
 	public abstract class DiscoveredDomainsApi {
 		
@@ -3,6 +3,7 @@ package com.selimhorri.app.domain;
 import java.io.Serializable;
 import java.util.Set;
 
+import javax.persistence.Cacheable;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -15,7 +16,13 @@ import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.selimhorri.app.constant.AppConstant;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,18 +31,26 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = AppConstant.CacheRegions.CATEGORY)
 @Table(name = "categories")
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true, exclude = {"subCategories", "parentCategory", "products"})
 @Data
 @Builder
-public final class Category extends AbstractMappedEntity implements Serializable {
+public class Category extends AbstractMappedEntity implements Serializable {
 	
 	private static final long serialVersionUID = 1L;
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categories_seq")
+	@GenericGenerator(name = "categories_seq", strategy = "enhanced-sequence", parameters = {
+		@Parameter(name = "sequence_name", value = "categories_seq"),
+		@Parameter(name = "force_table_use", value = "true"),
+		@Parameter(name = "optimizer", value = "pooled-lo"),
+		@Parameter(name = "increment_size", value = AppConstant.ID_ALLOCATION_SIZE)
+	})
 	@Column(name = "category_id", unique = true, nullable = false, updatable = false)
 	private Integer categoryId;
 	
@@ -49,7 +64,7 @@ public final class Category extends AbstractMappedEntity implements Serializable
 	@OneToMany(mappedBy = "parentCategory", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
 	private Set<Category> subCategories;
 	
-	@ManyToOne(fetch = FetchType.EAGER)
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "parent_category_id")
 	private Category parentCategory;
 	
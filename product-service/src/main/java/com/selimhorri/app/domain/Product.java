@@ -2,6 +2,7 @@ package com.selimhorri.app.domain;
 
 import java.io.Serializable;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
@@ -12,6 +13,13 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import com.selimhorri.app.constant.AppConstant;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,18 +27,26 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = AppConstant.CacheRegions.PRODUCT)
 @Table(name = "products")
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true, exclude = {"category"})
 @Data
 @Builder
-public final class Product extends AbstractMappedEntity implements Serializable {
+public class Product extends AbstractMappedEntity implements Serializable {
 	
 	private static final long serialVersionUID = 1L;
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq")
+	@GenericGenerator(name = "products_seq", strategy = "enhanced-sequence", parameters = {
+		@Parameter(name = "sequence_name", value = "products_seq"),
+		@Parameter(name = "force_table_use", value = "true"),
+		@Parameter(name = "optimizer", value = "pooled-lo"),
+		@Parameter(name = "increment_size", value = AppConstant.ID_ALLOCATION_SIZE)
+	})
 	@Column(name = "product_id", unique = true, nullable = false, updatable = false)
 	private Integer productId;
 	
@@ -49,7 +65,7 @@ public final class Product extends AbstractMappedEntity implements Serializable
 	@Column(name = "quantity")
 	private Integer quantity;
 	
-	@ManyToOne(fetch = FetchType.EAGER)
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "category_id")
 	private Category category;
 	
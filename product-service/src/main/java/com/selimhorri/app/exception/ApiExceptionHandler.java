@@ -3,6 +3,9 @@ package com.selimhorri.app.exception;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -41,6 +44,24 @@ public class ApiExceptionHandler {
 					.build(), badRequest);
 	}
 	
+	@ExceptionHandler(value = ConstraintViolationException.class)
+	public ResponseEntity<ExceptionMsg> handleConstraintViolationException(final ConstraintViolationException e) {
+		
+		log.info("**ApiExceptionHandler controller, handle constraint violation*\n");
+		final var badRequest = HttpStatus.BAD_REQUEST;
+		
+		return new ResponseEntity<>(
+				ExceptionMsg.builder()
+					.msg("*" + e.getConstraintViolations().stream()
+							.map(ConstraintViolation::getMessage)
+							.findFirst()
+							.orElse(e.getMessage()) + "!**")
+					.httpStatus(badRequest)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build(), badRequest);
+	}
+	
 	@ExceptionHandler(value = {
 		CategoryNotFoundException.class,
 		ProductNotFoundException.class,
@@ -0,0 +1,55 @@
+package com.selimhorri.app.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import org.springframework.util.DigestUtils;
+
+import com.selimhorri.app.domain.AbstractMappedEntity;
+import com.selimhorri.app.repository.projection.CatalogVersion;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EtagHelper {
+	
+	/**
+	 * Row count catches deletes, which leave no newer timestamp behind; the related
+	 * timestamp covers the embedded category a response serializes along with its owner.
+	 */
+	public static String strongEtag(final CatalogVersion catalogVersion) {
+		final String version = String.format("%d:%s:%s", 
+				catalogVersion.getRowCount(), 
+				catalogVersion.getLastModified(), 
+				catalogVersion.getRelatedLastModified());
+		return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+	
+	/**
+	 * Versions a single row from the loaded entity, which the second-level cache can serve,
+	 * instead of querying its timestamps; {@code related} is the embedded parent, if any.
+	 */
+	public static String strongEtag(final Object id, final AbstractMappedEntity entity, final AbstractMappedEntity related) {
+		final String version = String.format("%s:%s:%s", 
+				id, 
+				lastModified(entity), 
+				related == null ? null : lastModified(related));
+		return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+	
+	private static Instant lastModified(final AbstractMappedEntity entity) {
+		return entity.getUpdatedAt() != null ? entity.getUpdatedAt() : entity.getCreatedAt();
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,11 +1,41 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.repository.projection.CatalogVersion;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
 	
+	@EntityGraph(attributePaths = "parentCategory")
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+	@Override
+	List<Category> findAll();
+	
+	@EntityGraph(attributePaths = "parentCategory")
+	@Override
+	Page<Category> findAll(final Pageable pageable);
+	
+	@EntityGraph(attributePaths = "parentCategory")
+	@Override
+	Optional<Category> findById(final Integer categoryId);
+	
+	@Query("SELECT COUNT(c) AS rowCount, "
+			+ "MAX(COALESCE(c.updatedAt, c.createdAt)) AS lastModified, "
+			+ "MAX(COALESCE(pc.updatedAt, pc.createdAt)) AS relatedLastModified "
+			+ "FROM Category c LEFT JOIN c.parentCategory pc")
+	CatalogVersion findCatalogVersion();
+	
 	
 	
 }
@@ -1,11 +1,53 @@
 package com.selimhorri.app.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.repository.projection.CatalogVersion;
 
 public interface ProductRepository extends JpaRepository<Product, Integer> {
 	
+	@EntityGraph(attributePaths = "category")
+	@QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
+	@Override
+	List<Product> findAll();
+	
+	@EntityGraph(attributePaths = "category")
+	@Override
+	Optional<Product> findById(final Integer productId);
+	
+	@Query("SELECT COUNT(p) AS rowCount, "
+			+ "MAX(COALESCE(p.updatedAt, p.createdAt)) AS lastModified, "
+			+ "MAX(COALESCE(c.updatedAt, c.createdAt)) AS relatedLastModified "
+			+ "FROM Product p LEFT JOIN p.category c")
+	CatalogVersion findCatalogVersion();
+	
+	@Query("SELECT p FROM Product p LEFT JOIN FETCH p.category "
+			+ "WHERE p.productId IN :productIds")
+	List<Product> findAllByProductIdIn(@Param("productIds") final Collection<Integer> productIds);
+	
+	@Query("SELECT p FROM Product p LEFT JOIN FETCH p.category "
+			+ "WHERE p.productId > :cursor ORDER BY p.productId")
+	List<Product> findAllByProductIdGreaterThan(@Param("cursor") final Integer cursor, final Pageable pageable);
 	
+	@QueryHints({
+		@QueryHint(name = "org.hibernate.fetchSize", value = "" + AppConstant.EXPORT_FETCH_SIZE),
+		@QueryHint(name = "org.hibernate.readOnly", value = "true")
+	})
+	@Query("SELECT p FROM Product p LEFT JOIN FETCH p.category ORDER BY p.productId")
+	Stream<Product> streamAll();
 	
 }
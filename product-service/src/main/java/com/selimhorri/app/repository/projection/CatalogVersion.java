@@ -0,0 +1,21 @@
+package com.selimhorri.app.repository.projection;
+
+import java.time.Instant;
+
+public interface CatalogVersion {
+	
+	Long getRowCount();
+	Instant getLastModified();
+	Instant getRelatedLastModified();
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,9 +1,12 @@
 package com.selimhorri.app.resource;
 
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,7 +15,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
@@ -30,18 +35,37 @@ public class CategoryResource {
 	private final CategoryService categoryService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAll(final WebRequest webRequest) {
 		log.info("*** CategoryDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.categoryService.findAll()));
+		final String etag = this.categoryService.findAllEtag();
+		if (webRequest.checkNotModified(etag))
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+		return ResponseEntity.ok()
+				.eTag(etag)
+				.body(new DtoCollectionResponse<>(this.categoryService.findAll()));
+	}
+	
+	@GetMapping(params = "size")
+	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAll(
+			@RequestParam(name = "page", defaultValue = "0") final int page, 
+			@RequestParam("size") final int size) {
+		log.info("*** CategoryDto List, controller; fetch categories page *");
+		return ResponseEntity.ok(this.categoryService.findAll(page, size));
 	}
 	
 	@GetMapping("/{categoryId}")
 	public ResponseEntity<CategoryDto> findById(
 			@PathVariable("categoryId") 
 			@NotBlank(message = "Input must not be blank") 
-			@Valid final String categoryId) {
+			@Valid final String categoryId, 
+			final WebRequest webRequest) {
 		log.info("*** CategoryDto, resource; fetch category by id *");
-		return ResponseEntity.ok(this.categoryService.findById(Integer.parseInt(categoryId)));
+		final String etag = this.categoryService.findEtagById(Integer.parseInt(categoryId));
+		if (webRequest.checkNotModified(etag))
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+		return ResponseEntity.ok()
+				.eTag(etag)
+				.body(this.categoryService.findById(Integer.parseInt(categoryId)));
 	}
 	
 	@PostMapping
@@ -53,6 +77,15 @@ public class CategoryResource {
 		return ResponseEntity.ok(this.categoryService.save(categoryDto));
 	}
 	
+	@PostMapping("/bulk")
+	public ResponseEntity<List<CategoryDto>> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final List<CategoryDto> categoryDtos) {
+		log.info("*** CategoryDto List, resource; save all categories *");
+		return ResponseEntity.ok(this.categoryService.saveAll(categoryDtos));
+	}
+	
 	@PutMapping
 	public ResponseEntity<CategoryDto> update(
 			@RequestBody 
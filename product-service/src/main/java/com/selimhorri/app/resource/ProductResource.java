@@ -1,10 +1,19 @@
 package com.selimhorri.app.resource;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 
+import org.springframework.http.MediaType;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,8 +21,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.ProductService;
@@ -23,25 +37,72 @@ import lombok.extern.slf4j.Slf4j;
 
 @RestController
 @RequestMapping("/api/products")
+@Validated
 @Slf4j
 @RequiredArgsConstructor
 public class ProductResource {
 	
 	private final ProductService productService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAll(final WebRequest webRequest) {
 		log.info("*** ProductDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAll()));
+		final String etag = this.productService.findAllEtag();
+		if (webRequest.checkNotModified(etag))
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+		return ResponseEntity.ok()
+				.eTag(etag)
+				.body(new DtoCollectionResponse<>(this.productService.findAll()));
+	}
+	
+	@GetMapping(params = "size")
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAll(
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam("size") final int size) {
+		log.info("*** ProductDto List, controller; fetch products page *");
+		return ResponseEntity.ok(this.productService.findAll(cursor, size));
+	}
+	
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportAll() {
+		log.info("*** ProductDto Stream, resource; export all products *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(outputStream -> this.productService.exportAll(productDto -> {
+					try {
+						outputStream.write(this.objectMapper.writeValueAsBytes(productDto));
+						outputStream.write('\n');
+					}
+					catch (final IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}));
 	}
 	
 	@GetMapping("/{productId}")
 	public ResponseEntity<ProductDto> findById(
 			@PathVariable("productId") 
 			@NotBlank(message = "Input must not be blank!") 
-			@Valid final String productId) {
+			@Valid final String productId, 
+			final WebRequest webRequest) {
 		log.info("*** ProductDto, resource; fetch product by id *");
-		return ResponseEntity.ok(this.productService.findById(Integer.parseInt(productId)));
+		final String etag = this.productService.findEtagById(Integer.parseInt(productId));
+		if (webRequest.checkNotModified(etag))
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+		return ResponseEntity.ok()
+				.eTag(etag)
+				.body(this.productService.findById(Integer.parseInt(productId)));
+	}
+	
+	@PostMapping("/batch")
+	public ResponseEntity<Map<Integer, ProductDto>> findAllByIds(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Size(max = AppConstant.MAX_BATCH_SIZE, message = "At most " + AppConstant.MAX_BATCH_SIZE + " ids per batch") 
+			@Valid final List<Integer> productIds) {
+		log.info("*** ProductDto Map, resource; fetch products by ids *");
+		return ResponseEntity.ok(this.productService.findAllByIds(productIds));
 	}
 	
 	@PostMapping
@@ -53,6 +114,15 @@ public class ProductResource {
 		return ResponseEntity.ok(this.productService.save(productDto));
 	}
 	
+	@PostMapping("/bulk")
+	public ResponseEntity<List<ProductDto>> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final List<ProductDto> productDtos) {
+		log.info("*** ProductDto List, resource; save all products *");
+		return ResponseEntity.ok(this.productService.saveAll(productDtos));
+	}
+	
 	@PutMapping
 	public ResponseEntity<ProductDto> update(
 			@RequestBody 
@@ -3,12 +3,17 @@ package com.selimhorri.app.service;
 import java.util.List;
 
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface CategoryService {
 	
 	List<CategoryDto> findAll();
+	DtoCollectionResponse<CategoryDto> findAll(final int page, final int size);
 	CategoryDto findById(final Integer categoryId);
+	String findAllEtag();
+	String findEtagById(final Integer categoryId);
 	CategoryDto save(final CategoryDto categoryDto);
+	List<CategoryDto> saveAll(final List<CategoryDto> categoryDtos);
 	CategoryDto update(final CategoryDto categoryDto);
 	CategoryDto update(final Integer categoryId, final CategoryDto categoryDto);
 	void deleteById(final Integer categoryId);
@@ -1,14 +1,24 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface ProductService {
 	
 	List<ProductDto> findAll();
+	void exportAll(final Consumer<ProductDto> consumer);
+	DtoCollectionResponse<ProductDto> findAll(final Integer cursor, final int size);
 	ProductDto findById(final Integer productId);
+	String findAllEtag();
+	String findEtagById(final Integer productId);
+	Map<Integer, ProductDto> findAllByIds(final Collection<Integer> productIds);
 	ProductDto save(final ProductDto productDto);
+	List<ProductDto> saveAll(final List<ProductDto> productDtos);
 	ProductDto update(final ProductDto productDto);
 	ProductDto update(final Integer productId, final ProductDto productDto);
 	void deleteById(final Integer productId);
@@ -3,13 +3,17 @@ package com.selimhorri.app.service.impl;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.config.cache.CatalogEtagCache;
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
 import com.selimhorri.app.helper.CategoryMappingHelper;
+import com.selimhorri.app.helper.EtagHelper;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.repository.CategoryRepository;
 import com.selimhorri.app.service.CategoryService;
 
@@ -23,8 +27,10 @@ import lombok.extern.slf4j.Slf4j;
 public class CategoryServiceImpl implements CategoryService {
 	
 	private final CategoryRepository categoryRepository;
+	private final CatalogEtagCache catalogEtagCache;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<CategoryDto> findAll() {
 		log.info("*** CategoryDto List, service; fetch all categorys *");
 		return this.categoryRepository.findAll()
@@ -35,6 +41,16 @@ public class CategoryServiceImpl implements CategoryService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<CategoryDto> findAll(final int page, final int size) {
+		log.info("*** CategoryDto List, service; fetch categories page *");
+		return PageRequestHelper.offsetResponse(this.categoryRepository
+				.findAll(PageRequestHelper.offsetPage(page, size, Sort.by("categoryId")))
+				.map(CategoryMappingHelper::map));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
 	public CategoryDto findById(final Integer categoryId) {
 		log.info("*** CategoryDto, service; fetch category by id *");
 		return this.categoryRepository.findById(categoryId)
@@ -42,16 +58,45 @@ public class CategoryServiceImpl implements CategoryService {
 				.orElseThrow(() -> new CategoryNotFoundException(String.format("Category with id: %d not found", categoryId)));
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public String findAllEtag() {
+		return this.catalogEtagCache.get(CatalogEtagCache.CATEGORIES, 
+				() -> EtagHelper.strongEtag(this.categoryRepository.findCatalogVersion()));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public String findEtagById(final Integer categoryId) {
+		return this.categoryRepository.findById(categoryId)
+				.map(category -> EtagHelper.strongEtag(categoryId, category, category.getParentCategory()))
+				.orElseThrow(() -> new CategoryNotFoundException(String.format("Category with id: %d not found", categoryId)));
+	}
+	
 	@Override
 	public CategoryDto save(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; save category *");
+		this.catalogEtagCache.evictAfterCompletion(CatalogEtagCache.CATEGORIES, CatalogEtagCache.PRODUCTS);
 		return CategoryMappingHelper.map(this.categoryRepository
 				.save(CategoryMappingHelper.map(categoryDto)));
 	}
 	
+	@Override
+	public List<CategoryDto> saveAll(final List<CategoryDto> categoryDtos) {
+		log.info("*** CategoryDto List, service; save all categories *");
+		this.catalogEtagCache.evictAfterCompletion(CatalogEtagCache.CATEGORIES, CatalogEtagCache.PRODUCTS);
+		return this.categoryRepository.saveAll(categoryDtos.stream()
+					.map(CategoryMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()))
+				.stream()
+					.map(CategoryMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public CategoryDto update(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category *");
+		this.catalogEtagCache.evictAfterCompletion(CatalogEtagCache.CATEGORIES, CatalogEtagCache.PRODUCTS);
 		return CategoryMappingHelper.map(this.categoryRepository
 				.save(CategoryMappingHelper.map(categoryDto)));
 	}
@@ -59,6 +104,7 @@ public class CategoryServiceImpl implements CategoryService {
 	@Override
 	public CategoryDto update(final Integer categoryId, final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category with categoryId *");
+		this.catalogEtagCache.evictAfterCompletion(CatalogEtagCache.CATEGORIES, CatalogEtagCache.PRODUCTS);
 		return CategoryMappingHelper.map(this.categoryRepository
 				.save(CategoryMappingHelper.map(this.findById(categoryId))));
 	}
@@ -66,6 +112,7 @@ public class CategoryServiceImpl implements CategoryService {
 	@Override
 	public void deleteById(final Integer categoryId) {
 		log.info("*** Void, service; delete category by id *");
+		this.catalogEtagCache.evictAfterCompletion(CatalogEtagCache.CATEGORIES, CatalogEtagCache.PRODUCTS);
 		this.categoryRepository.deleteById(categoryId);
 	}
 	
@@ -1,14 +1,28 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.config.cache.CatalogEtagCache;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.helper.EtagHelper;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.helper.ProductMappingHelper;
 import com.selimhorri.app.repository.ProductRepository;
 import com.selimhorri.app.service.ProductService;
@@ -23,8 +37,11 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductServiceImpl implements ProductService {
 	
 	private final ProductRepository productRepository;
+	private final EntityManager entityManager;
+	private final CatalogEtagCache catalogEtagCache;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<ProductDto> findAll() {
 		log.info("*** ProductDto List, service; fetch all products *");
 		return this.productRepository.findAll()
@@ -35,6 +52,37 @@ public class ProductServiceImpl implements ProductService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<ProductDto> findAll(final Integer cursor, final int size) {
+		log.info("*** ProductDto List, service; fetch products page after cursor *");
+		return PageRequestHelper.keysetResponse(this.productRepository
+				.findAllByProductIdGreaterThan(cursor == null ? 0 : cursor, PageRequestHelper.keysetPage(size))
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), size, ProductDto::getProductId);
+	}
+	
+	/**
+	 * Streams rows straight from a server-side cursor. The persistence context is cleared
+	 * every fetch-size rows so heap use does not grow with the table.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public void exportAll(final Consumer<ProductDto> consumer) {
+		log.info("*** ProductDto Stream, service; export all products *");
+		try (final Stream<Product> products = this.productRepository.streamAll()) {
+			final Iterator<Product> iterator = products.iterator();
+			int exported = 0;
+			while (iterator.hasNext()) {
+				consumer.accept(ProductMappingHelper.map(iterator.next()));
+				if (++exported % AppConstant.EXPORT_FETCH_SIZE == 0)
+					this.entityManager.clear();
+			}
+		}
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
 	public ProductDto findById(final Integer productId) {
 		log.info("*** ProductDto, service; fetch product by id *");
 		return this.productRepository.findById(productId)
@@ -42,16 +90,60 @@ public class ProductServiceImpl implements ProductService {
 				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productId)));
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public String findAllEtag() {
+		return this.catalogEtagCache.get(CatalogEtagCache.PRODUCTS, 
+				() -> EtagHelper.strongEtag(this.productRepository.findCatalogVersion()));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public String findEtagById(final Integer productId) {
+		return this.productRepository.findById(productId)
+				.map(product -> EtagHelper.strongEtag(productId, product, product.getCategory()))
+				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productId)));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Integer, ProductDto> findAllByIds(final Collection<Integer> productIds) {
+		log.info("*** ProductDto Map, service; fetch products by ids *");
+		final var distinctIds = productIds.stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet());
+		if (distinctIds.isEmpty())
+			return Map.of();
+		return this.productRepository.findAllByProductIdIn(distinctIds)
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableMap(ProductDto::getProductId, Function.identity()));
+	}
+	
 	@Override
 	public ProductDto save(final ProductDto productDto) {
 		log.info("*** ProductDto, service; save product *");
+		this.catalogEtagCache.evictAfterCompletion(CatalogEtagCache.PRODUCTS);
 		return ProductMappingHelper.map(this.productRepository
 				.save(ProductMappingHelper.map(productDto)));
 	}
 	
+	@Override
+	public List<ProductDto> saveAll(final List<ProductDto> productDtos) {
+		log.info("*** ProductDto List, service; save all products *");
+		this.catalogEtagCache.evictAfterCompletion(CatalogEtagCache.PRODUCTS);
+		return this.productRepository.saveAll(productDtos.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()))
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public ProductDto update(final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product *");
+		this.catalogEtagCache.evictAfterCompletion(CatalogEtagCache.PRODUCTS);
 		return ProductMappingHelper.map(this.productRepository
 				.save(ProductMappingHelper.map(productDto)));
 	}
@@ -59,6 +151,7 @@ public class ProductServiceImpl implements ProductService {
 	@Override
 	public ProductDto update(final Integer productId, final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product with productId *");
+		this.catalogEtagCache.evictAfterCompletion(CatalogEtagCache.PRODUCTS);
 		return ProductMappingHelper.map(this.productRepository
 				.save(ProductMappingHelper.map(this.findById(productId))));
 	}
@@ -66,6 +159,7 @@ public class ProductServiceImpl implements ProductService {
 	@Override
 	public void deleteById(final Integer productId) {
 		log.info("*** Void, service; delete product by id *");
+		this.catalogEtagCache.evictAfterCompletion(CatalogEtagCache.PRODUCTS);
 		this.productRepository.delete(ProductMappingHelper
 				.map(this.findById(productId)));
 	}
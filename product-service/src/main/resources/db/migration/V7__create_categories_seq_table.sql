@@ -0,0 +1,8 @@
+
+CREATE TABLE categories_seq (
+	next_val BIGINT NOT NULL
+);
+
+INSERT INTO categories_seq (next_val)
+SELECT COALESCE(MAX(category_id), 0) + 1 FROM categories;
+
@@ -0,0 +1,8 @@
+
+CREATE TABLE products_seq (
+	next_val BIGINT NOT NULL
+);
+
+INSERT INTO products_seq (next_val)
+SELECT COALESCE(MAX(product_id), 0) + 1 FROM products;
+
@@ -0,0 +1,63 @@
+package com.selimhorri.app.config.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CatalogEtagCacheTest {
+
+    private final AtomicInteger versionQueries = new AtomicInteger();
+
+    private PlatformTransactionManager transactionManager;
+
+    private CatalogEtagCache catalogEtagCache;
+
+    @BeforeEach
+    void setUp() {
+        this.transactionManager = mock(PlatformTransactionManager.class);
+        this.catalogEtagCache = new CatalogEtagCache(this.transactionManager, Duration.ofMinutes(10), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void get_ShouldComputeTheVersionOnceInItsOwnTransaction() {
+        // when
+        String first = this.catalogEtagCache.get(CatalogEtagCache.PRODUCTS, this::nextEtag);
+        String second = this.catalogEtagCache.get(CatalogEtagCache.PRODUCTS, this::nextEtag);
+
+        // then
+        assertEquals("\"1\"", first);
+        assertEquals(first, second);
+        assertEquals(1, this.versionQueries.get());
+        verify(this.transactionManager).getTransaction(argThat(definition -> !definition.isReadOnly()
+                && definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    void evictAfterCompletion_OutsideTransaction_ShouldRecomputeOnNextRead() {
+        // given
+        this.catalogEtagCache.get(CatalogEtagCache.PRODUCTS, this::nextEtag);
+        this.catalogEtagCache.get(CatalogEtagCache.CATEGORIES, this::nextEtag);
+
+        // when
+        this.catalogEtagCache.evictAfterCompletion(CatalogEtagCache.PRODUCTS);
+
+        // then
+        assertEquals("\"3\"", this.catalogEtagCache.get(CatalogEtagCache.PRODUCTS, this::nextEtag));
+        assertEquals("\"2\"", this.catalogEtagCache.get(CatalogEtagCache.CATEGORIES, this::nextEtag));
+    }
+
+    private String nextEtag() {
+        return "\"" + this.versionQueries.incrementAndGet() + "\"";
+    }
+
+}
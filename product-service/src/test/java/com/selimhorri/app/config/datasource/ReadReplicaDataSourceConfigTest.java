@@ -0,0 +1,173 @@
+package com.selimhorri.app.config.datasource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReadReplicaDataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+            .withUserConfiguration(ReadReplicaDataSourceConfig.class)
+            .withBean(JpaProperties.class);
+
+    private String primaryUrl;
+    private String replicaUrl;
+
+    @BeforeEach
+    void setUp() {
+        primaryUrl = createDatabase("primary");
+        replicaUrl = createDatabase("replica");
+    }
+
+    @Test
+    void withoutReplicaUrl_ShouldLeaveDataSourceToAutoConfiguration() {
+        contextRunner
+                .withPropertyValues("spring.datasource.url=" + primaryUrl)
+                .run(context -> assertTrue(context.getBeansOfType(DataSource.class).isEmpty()));
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldReadFromReplica() {
+        contextRunner
+                .withPropertyValues(
+                        "spring.datasource.url=" + primaryUrl,
+                        "spring.datasource.username=sa",
+                        "app.datasource.replica.url=" + replicaUrl)
+                .run(context -> {
+                    // given
+                    DataSource dataSource = context.getBean(DataSource.class);
+
+                    // when
+                    String source = inTransaction(dataSource, true);
+
+                    // then
+                    assertEquals("replica", source);
+                });
+    }
+
+    @Test
+    void readWriteTransactionAndPlainReads_ShouldUsePrimary() {
+        contextRunner
+                .withPropertyValues(
+                        "spring.datasource.url=" + primaryUrl,
+                        "spring.datasource.username=sa",
+                        "app.datasource.replica.url=" + replicaUrl)
+                .run(context -> {
+                    // given
+                    DataSource dataSource = context.getBean(DataSource.class);
+
+                    // when
+                    String transactional = inTransaction(dataSource, false);
+                    String plain = readMarker(dataSource);
+
+                    // then
+                    assertEquals("primary", transactional);
+                    assertEquals("primary", plain);
+                });
+    }
+
+    @Test
+    void jpaTransactions_ShouldRouteByReadOnlyFlagAndKeepReplicaRowsOutOfTheCache() {
+        contextRunner
+                .withPropertyValues(
+                        "spring.datasource.url=" + primaryUrl,
+                        "spring.datasource.username=sa",
+                        "app.datasource.replica.url=" + replicaUrl)
+                .run(context -> {
+                    // given
+                    EntityManagerFactory entityManagerFactory = entityManagerFactory(
+                            context.getBean(DataSource.class), context.getBean(JpaVendorAdapter.class));
+
+                    try {
+                        // when
+                        String readOnly = inJpaTransaction(entityManagerFactory, true, ReadReplicaDataSourceConfigTest::readMarker);
+                        String readWrite = inJpaTransaction(entityManagerFactory, false, ReadReplicaDataSourceConfigTest::readMarker);
+                        CacheMode readOnlyCacheMode = inJpaTransaction(entityManagerFactory, true, ReadReplicaDataSourceConfigTest::cacheMode);
+                        CacheMode readWriteCacheMode = inJpaTransaction(entityManagerFactory, false, ReadReplicaDataSourceConfigTest::cacheMode);
+
+                        // then
+                        assertEquals("replica", readOnly);
+                        assertEquals("primary", readWrite);
+                        assertEquals(CacheMode.GET, readOnlyCacheMode);
+                        assertEquals(CacheMode.NORMAL, readWriteCacheMode);
+                    }
+                    finally {
+                        entityManagerFactory.close();
+                    }
+                });
+    }
+
+    private static String inTransaction(final DataSource dataSource, final boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> readMarker(dataSource));
+    }
+
+    /**
+     * Unlike the plain JDBC manager, the JPA one opens the session and its connection before
+     * the read-only flag is published, which is the case the lazy proxy exists for.
+     */
+    private static <T> T inJpaTransaction(final EntityManagerFactory entityManagerFactory, final boolean readOnly,
+            final Function<EntityManager, T> work) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> work.apply(
+                EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory)));
+    }
+
+    private static EntityManagerFactory entityManagerFactory(final DataSource dataSource, final JpaVendorAdapter jpaVendorAdapter) {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setJpaVendorAdapter(jpaVendorAdapter);
+        factoryBean.setPackagesToScan(ReadReplicaDataSourceConfigTest.class.getPackageName());
+        factoryBean.afterPropertiesSet();
+        return factoryBean.getObject();
+    }
+
+    private static String readMarker(final EntityManager entityManager) {
+        return (String) entityManager.createNativeQuery("SELECT name FROM data_source_marker").getSingleResult();
+    }
+
+    private static CacheMode cacheMode(final EntityManager entityManager) {
+        return entityManager.unwrap(Session.class).getCacheMode();
+    }
+
+    private static String readMarker(final DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT name FROM data_source_marker", String.class);
+    }
+
+    /**
+     * Each database remembers its own name, so a query shows which one answered it.
+     */
+    private static String createDatabase(final String name) {
+        String url = "jdbc:h2:mem:" + name + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE data_source_marker (name VARCHAR(16) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO data_source_marker (name) VALUES (?)", name);
+        return url;
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.selimhorri.app.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.selimhorri.app.config.jpa.JpaAuditingConfig;
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.CategoryMappingHelper;
+import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.repository.projection.CatalogVersion;
+
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@Import(JpaAuditingConfig.class)
+class ProductRepositoryTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // Three levels of categories, each with its own product, on top of the seeded catalog
+        Category parent = null;
+        for (int level = 0; level < 3; level++) {
+            final Category category = this.testEntityManager.persist(Category.builder()
+                    .categoryTitle("Level " + level)
+                    .parentCategory(parent)
+                    .build());
+            this.testEntityManager.persist(Product.builder()
+                    .productTitle("Product " + level)
+                    .sku("SKU-" + level)
+                    .priceUnit(10.0)
+                    .quantity(1)
+                    .category(category)
+                    .build());
+            parent = category;
+        }
+        this.testEntityManager.flush();
+        this.testEntityManager.clear();
+
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.clear();
+    }
+
+    @Test
+    void findAll_ShouldLoadProductsAndCategoriesInOneStatement() {
+        // when
+        List<ProductDto> result = this.productRepository.findAll()
+                .stream()
+                .map(ProductMappingHelper::map)
+                .collect(Collectors.toList());
+
+        // then
+        assertTrue(result.size() > 3);
+        assertTrue(result.stream().allMatch(product -> product.getCategoryDto().getCategoryTitle() != null));
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findById_ShouldLoadProductAndCategoryInOneStatement() {
+        // given
+        Integer productId = this.productRepository.findAll().get(0).getProductId();
+        this.testEntityManager.clear();
+        this.statistics.clear();
+
+        // when
+        ProductDto result = this.productRepository.findById(productId)
+                .map(ProductMappingHelper::map)
+                .orElseThrow();
+
+        // then
+        assertNotNull(result.getCategoryDto().getCategoryTitle());
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAllCategories_ShouldLoadParentsInOneStatement() {
+        // when
+        List<CategoryDto> result = this.categoryRepository.findAll()
+                .stream()
+                .map(CategoryMappingHelper::map)
+                .collect(Collectors.toList());
+
+        // then
+        CategoryDto deepest = result.stream()
+                .filter(category -> "Level 2".equals(category.getCategoryTitle()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("Level 1", deepest.getParentCategoryDto().getCategoryTitle());
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void saveAll_ShouldInsertProductsInOneBatch() {
+        // given
+        Category category = this.categoryRepository.findAll().get(0);
+        List<Product> products = IntStream.range(0, 5)
+                .mapToObj(index -> Product.builder()
+                        .productTitle("Bulk " + index)
+                        .sku("BULK-" + index)
+                        .category(category)
+                        .build())
+                .collect(Collectors.toList());
+        this.statistics.clear();
+
+        // when
+        List<Product> result = this.productRepository.saveAll(products);
+        this.productRepository.flush();
+
+        // then
+        assertEquals(5, result.stream().map(Product::getProductId).distinct().count());
+        assertEquals(1, this.statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findCatalogVersion_ShouldSummariseProductsAndCategories() {
+        // when
+        CatalogVersion result = this.productRepository.findCatalogVersion();
+
+        // then
+        assertEquals(this.productRepository.count(), result.getRowCount());
+        assertNotNull(result.getLastModified());
+        assertNotNull(result.getRelatedLastModified());
+    }
+
+}
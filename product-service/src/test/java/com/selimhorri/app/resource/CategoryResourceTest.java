@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -51,11 +52,13 @@ class CategoryResourceTest {
     void testFindAll_ShouldReturnAllCategories() throws Exception {
         // Given
         List<CategoryDto> categories = Arrays.asList(testCategoryDto);
+        when(categoryService.findAllEtag()).thenReturn("\"v1\"");
         when(categoryService.findAll()).thenReturn(categories);
 
         // When & Then
         mockMvc.perform(get("/api/categories"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
                 .andExpect(jsonPath("$.collection").isArray())
                 .andExpect(jsonPath("$.collection[0].categoryId").value(1))
                 .andExpect(jsonPath("$.collection[0].categoryTitle").value("Test Category"));
@@ -68,6 +71,7 @@ class CategoryResourceTest {
     void testFindById_ShouldReturnCategory() throws Exception {
         // Given
         String categoryId = "1";
+        when(categoryService.findEtagById(1)).thenReturn("\"v1\"");
         when(categoryService.findById(1)).thenReturn(testCategoryDto);
 
         // When & Then
@@ -79,6 +83,22 @@ class CategoryResourceTest {
         verify(categoryService).findById(1);
     }
 
+    @Test
+    @DisplayName("Should answer 304 without loading the category when the etag matches")
+    void testFindById_WithMatchingEtag_ShouldReturnNotModified() throws Exception {
+        // Given
+        when(categoryService.findEtagById(1)).thenReturn("\"v1\"");
+
+        // When & Then
+        mockMvc.perform(get("/api/categories/{categoryId}", "1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
+                .andExpect(content().string(""));
+
+        verify(categoryService, never()).findById(anyInt());
+    }
+
     @Test
     @DisplayName("Should save category")
     void testSave_ShouldCreateCategory() throws Exception {
@@ -8,16 +8,23 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
@@ -58,11 +65,13 @@ class ProductResourceTest {
     void testFindAll_ShouldReturnAllProducts() throws Exception {
         // Given
         List<ProductDto> products = Arrays.asList(testProductDto);
+        when(productService.findAllEtag()).thenReturn("\"v1\"");
         when(productService.findAll()).thenReturn(products);
 
         // When & Then
         mockMvc.perform(get("/api/products"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
                 .andExpect(jsonPath("$.collection").isArray())
                 .andExpect(jsonPath("$.collection[0].productId").value(1))
                 .andExpect(jsonPath("$.collection[0].productTitle").value("Test Product"))
@@ -71,10 +80,58 @@ class ProductResourceTest {
         verify(productService).findAll();
     }
 
+    @Test
+    void testFindAll_WithMatchingEtag_ShouldReturnNotModified() throws Exception {
+        // Given
+        when(productService.findAllEtag()).thenReturn("\"v1\"");
+
+        // When & Then
+        mockMvc.perform(get("/api/products")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
+                .andExpect(content().string(""));
+
+        verify(productService, never()).findAll();
+    }
+
+    @Test
+    void testFindAllByIds_WhenBatchExceedsMaxSize_ShouldReturnBadRequest() throws Exception {
+        // Given
+        List<Integer> ids = IntStream.rangeClosed(1, AppConstant.MAX_BATCH_SIZE + 1)
+                .boxed()
+                .collect(Collectors.toList());
+
+        // When & Then
+        mockMvc.perform(post("/api/products/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isBadRequest());
+
+        verify(productService, never()).findAllByIds(anyList());
+    }
+
+    @Test
+    void testFindAllByIds_ShouldReturnProductsKeyedById() throws Exception {
+        // Given
+        when(productService.findAllByIds(anyList())).thenReturn(Map.of(1, testProductDto));
+
+        // When & Then
+        mockMvc.perform(post("/api/products/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(1))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.1.productId").value(1))
+                .andExpect(jsonPath("$.1.sku").value("TEST-SKU-001"));
+
+        verify(productService).findAllByIds(anyList());
+    }
+
     @Test
     void testFindById_ShouldReturnProduct() throws Exception {
         // Given
         Integer productId = 1;
+        when(productService.findEtagById(productId)).thenReturn("\"v1\"");
         when(productService.findById(productId)).thenReturn(testProductDto);
 
         // When & Then
@@ -180,4 +237,27 @@ class ProductResourceTest {
 
         verify(productService).save(any(ProductDto.class));
     }
+
+    @Test
+    void testExportAll_ShouldStreamNdjson() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<ProductDto> consumer = invocation.getArgument(0);
+            consumer.accept(testProductDto);
+            consumer.accept(testProductDto);
+            return null;
+        }).when(productService).exportAll(any());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/products/export").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String line = objectMapper.writeValueAsString(testProductDto);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(line + "\n" + line + "\n"));
+    }
 }
@@ -16,6 +16,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.selimhorri.app.config.cache.CatalogEtagCache;
 import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
@@ -29,6 +30,9 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CatalogEtagCache catalogEtagCache;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
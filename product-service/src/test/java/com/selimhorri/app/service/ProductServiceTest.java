@@ -5,9 +5,15 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,11 +21,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import com.selimhorri.app.config.cache.CatalogEtagCache;
 import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
 import com.selimhorri.app.repository.ProductRepository;
 import com.selimhorri.app.service.impl.ProductServiceImpl;
@@ -30,6 +40,12 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private CatalogEtagCache catalogEtagCache;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -99,6 +115,30 @@ class ProductServiceTest {
         verify(productRepository).findById(productId);
     }
 
+    @Test
+    void testFindAllByIds_ShouldReturnProductsKeyedById() {
+        // Given
+        when(productRepository.findAllByProductIdIn(anyCollection())).thenReturn(Arrays.asList(testProduct));
+
+        // When
+        Map<Integer, ProductDto> result = productService.findAllByIds(Arrays.asList(1, 1, null));
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("Test Product", result.get(1).getProductTitle());
+        verify(productRepository).findAllByProductIdIn(anyCollection());
+    }
+
+    @Test
+    void testFindAllByIds_WithNoIds_ShouldNotQueryRepository() {
+        // When
+        Map<Integer, ProductDto> result = productService.findAllByIds(List.of());
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(productRepository, never()).findAllByProductIdIn(anyCollection());
+    }
+
     @Test
     void testFindById_WhenProductNotExists_ShouldThrowException() {
         // Given
@@ -115,6 +155,43 @@ class ProductServiceTest {
         verify(productRepository).findById(productId);
     }
 
+    @Test
+    void testFindEtagById_ShouldVersionTheLoadedProduct() {
+        // Given
+        testProduct.setUpdatedAt(Instant.parse("2024-01-01T00:00:00Z"));
+        when(productRepository.findById(1)).thenReturn(Optional.of(testProduct));
+        String before = productService.findEtagById(1);
+        testProduct.setUpdatedAt(Instant.parse("2024-01-02T00:00:00Z"));
+
+        // When
+        String after = productService.findEtagById(1);
+
+        // Then
+        assertNotEquals(before, after);
+        verify(productRepository, never()).findCatalogVersion();
+    }
+
+    @Test
+    void testFindEtagById_WhenProductNotExists_ShouldThrowException() {
+        // Given
+        when(productRepository.findById(999)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ProductNotFoundException.class, () -> productService.findEtagById(999));
+    }
+
+    @Test
+    void testSave_ShouldEvictCatalogEtag() {
+        // Given
+        when(productRepository.save(any(Product.class))).thenReturn(testProduct);
+
+        // When
+        productService.save(testProductDto);
+
+        // Then
+        verify(catalogEtagCache).evictAfterCompletion(CatalogEtagCache.PRODUCTS);
+    }
+
     @Test
     void testSave_ShouldReturnSavedProduct() {
         // Given
@@ -131,6 +208,21 @@ class ProductServiceTest {
     }
 
 
+    @Test
+    void testSaveAll_ShouldSaveAllProductsInOneCall() {
+        // Given
+        when(productRepository.saveAll(anyList())).thenReturn(List.of(testProduct));
+
+        // When
+        List<ProductDto> result = productService.saveAll(List.of(testProductDto));
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(testProductDto.getProductId(), result.get(0).getProductId());
+        verify(productRepository).saveAll(anyList());
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
     @Test
     void testSave_WithValidData_ShouldSucceed() {
         // Given
@@ -241,4 +333,53 @@ class ProductServiceTest {
         verify(productRepository).findById(productId);
         verify(productRepository).delete(any(Product.class));
     }
+
+    @Test
+    void testFindAllPage_ShouldReturnNextCursorWhenMoreRowsExist() {
+        // Given
+        Product nextProduct = Product.builder()
+                .productId(2)
+                .productTitle("Next Product")
+                .category(testProduct.getCategory())
+                .build();
+        when(productRepository.findAllByProductIdGreaterThan(eq(0), any(Pageable.class)))
+                .thenReturn(List.of(testProduct, nextProduct));
+
+        // When
+        DtoCollectionResponse<ProductDto> result = productService.findAll(null, 1);
+
+        // Then
+        assertEquals(1, result.getCollection().size());
+        assertEquals("1", result.getNextCursor());
+        verify(productRepository).findAllByProductIdGreaterThan(0, PageRequest.of(0, 2));
+    }
+
+    @Test
+    void testFindAllPage_ShouldOmitNextCursorOnLastPage() {
+        // Given
+        when(productRepository.findAllByProductIdGreaterThan(eq(1), any(Pageable.class)))
+                .thenReturn(List.of(testProduct));
+
+        // When
+        DtoCollectionResponse<ProductDto> result = productService.findAll(1, 10);
+
+        // Then
+        assertEquals(1, result.getCollection().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void testExportAll_ShouldPassEachMappedProductToConsumer() {
+        // Given
+        when(productRepository.streamAll()).thenReturn(Stream.of(testProduct));
+        List<ProductDto> exported = new ArrayList<>();
+
+        // When
+        productService.exportAll(exported::add);
+
+        // Then
+        assertEquals(1, exported.size());
+        assertEquals(1, exported.get(0).getProductId());
+        verifyNoInteractions(entityManager);
+    }
 }
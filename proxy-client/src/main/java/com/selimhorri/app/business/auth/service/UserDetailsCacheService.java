@@ -0,0 +1,8 @@
+package com.selimhorri.app.business.auth.service;
+
+public interface UserDetailsCacheService {
+	
+	void evictByUsername(final String username);
+	void evictByCredentialId(final String credentialId);
+	
+}
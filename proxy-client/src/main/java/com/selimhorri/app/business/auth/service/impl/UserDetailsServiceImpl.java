@@ -6,6 +6,8 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.business.auth.service.UserDetailsCacheService;
 import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.UserDetailsImpl;
 import com.selimhorri.app.constant.AppConstant;
@@ -16,15 +18,32 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @Slf4j
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsCacheService {
 	
 	private static final String API_URL = AppConstant.DiscoveredDomainsApi.USER_SERVICE_HOST + "/api/credentials";
 	private final RestTemplate restTemplate;
+	private final Cache<String, CredentialDto> userDetailsCache;
 	
 	@Override
 	public UserDetails loadUserByUsername(final String username) throws UsernameNotFoundException {
 		log.info("**UserDetails, load user by username*\n");
-		return new UserDetailsImpl(this.restTemplate.getForObject(API_URL + "/username/" + username, CredentialDto.class));
+		return new UserDetailsImpl(this.userDetailsCache.get(username, 
+				key -> this.restTemplate.getForObject(API_URL + "/username/" + key, CredentialDto.class)));
+	}
+	
+	@Override
+	public void evictByUsername(final String username) {
+		log.info("**Void, evict cached user details by username*\n");
+		if (username != null)
+			this.userDetailsCache.invalidate(username);
+	}
+	
+	@Override
+	public void evictByCredentialId(final String credentialId) {
+		log.info("**Void, evict cached user details by credentialId*\n");
+		if (credentialId != null)
+			this.userDetailsCache.asMap().values()
+					.removeIf(credentialDto -> credentialId.strip().equals(String.valueOf(credentialDto.getCredentialId())));
 	}
 	
 	
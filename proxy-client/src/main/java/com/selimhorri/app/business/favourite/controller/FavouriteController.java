@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.favourite.model.FavouriteDto;
@@ -29,6 +30,19 @@ public class FavouriteController {
 		return ResponseEntity.ok(this.favouriteClientService.findAll().getBody());
 	}
 	
+	@GetMapping(params = "size")
+	public ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", defaultValue = "0") final int page, 
+			@RequestParam("size") final int size) {
+		return ResponseEntity.ok(this.favouriteClientService.findAll(page, size).getBody());
+	}
+	
+	@GetMapping("/user/{userId}")
+	public ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> findAllByUserId(
+			@PathVariable("userId") final String userId) {
+		return ResponseEntity.ok(this.favouriteClientService.findAllByUserId(userId).getBody());
+	}
+	
 	@GetMapping("/{userId}/{productId}/{likeDate}")
 	public ResponseEntity<FavouriteDto> findById(
 			@PathVariable("userId") final String userId, 
@@ -18,5 +18,6 @@ public class FavouriteFavouriteServiceCollectionDtoResponse implements Serializa
 	
 	private static final long serialVersionUID = 1L;
 	private Collection<FavouriteDto> collection;
+	private String nextCursor;
 	
 }
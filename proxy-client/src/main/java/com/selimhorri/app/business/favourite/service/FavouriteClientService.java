@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.favourite.model.FavouriteDto;
 import com.selimhorri.app.business.favourite.model.FavouriteId;
@@ -22,6 +23,15 @@ public interface FavouriteClientService {
 	@GetMapping
 	ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> findAll();
 	
+	@GetMapping
+	ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", defaultValue = "0") final int page, 
+			@RequestParam("size") final int size);
+	
+	@GetMapping("/user/{userId}")
+	ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> findAllByUserId(
+			@PathVariable("userId") final String userId);
+	
 	@GetMapping("/{userId}/{productId}/{likeDate}")
 	public ResponseEntity<FavouriteDto> findById(
 			@PathVariable("userId") final String userId, 
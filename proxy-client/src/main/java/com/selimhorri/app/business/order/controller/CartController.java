@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.order.model.CartDto;
@@ -32,6 +33,13 @@ public class CartController {
 		return ResponseEntity.ok(this.cartClientService.findAll().getBody());
 	}
 	
+	@GetMapping(params = "size")
+	public ResponseEntity<CartOrderServiceDtoCollectionResponse> findAll(
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam("size") final int size) {
+		return ResponseEntity.ok(this.cartClientService.findAll(cursor, size).getBody());
+	}
+	
 	@GetMapping("/{cartId}")
 	public ResponseEntity<CartDto> findById(
 			@PathVariable("cartId") 
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.order.model.OrderDto;
@@ -32,6 +33,23 @@ public class OrderController {
 		return ResponseEntity.ok(this.orderClientService.findAll().getBody());
 	}
 	
+	@GetMapping(params = "size")
+	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAll(
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam("size") final int size) {
+		return ResponseEntity.ok(this.orderClientService.findAll(cursor, size).getBody());
+	}
+	
+	@GetMapping("/user/{userId}")
+	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAllByUserId(
+			@PathVariable("userId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String userId, 
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam(name = "size", required = false) final Integer size) {
+		return ResponseEntity.ok(this.orderClientService.findAllByUserId(userId, cursor, size).getBody());
+	}
+	
 	@GetMapping("/{orderId}")
 	public ResponseEntity<OrderDto> findById(
 			@PathVariable("orderId") 
@@ -18,5 +18,6 @@ public class CartOrderServiceDtoCollectionResponse implements Serializable {
 	
 	private static final long serialVersionUID = 1L;
 	private Collection<CartDto> collection;
+	private String nextCursor;
 	
 }
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.order.model.OrderDto;
 import com.selimhorri.app.business.order.model.response.OrderOrderServiceDtoCollectionResponse;
@@ -22,6 +23,19 @@ public interface OrderClientService {
 	@GetMapping
 	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAll();
 	
+	@GetMapping
+	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAll(
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam("size") final int size);
+	
+	@GetMapping("/user/{userId}")
+	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAllByUserId(
+			@PathVariable("userId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String userId, 
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam(name = "size", required = false) final Integer size);
+	
 	@GetMapping("/{orderId}")
 	public ResponseEntity<OrderDto> findById(
 			@PathVariable("orderId") 
@@ -0,0 +1,54 @@
+package com.selimhorri.app.business.orderDetails.model;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.product.model.ProductDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class OrderDetailsDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@JsonProperty("order")
+	private OrderDto orderDto;
+	
+	@JsonProperty("orderItems")
+	private List<OrderItemDto> orderItemDtos;
+	
+	@JsonProperty("payment")
+	@JsonInclude(Include.NON_NULL)
+	private PaymentDto paymentDto;
+	
+	/**
+	 * Products referenced by the order items, once each, keyed by productId.
+	 */
+	@JsonProperty("products")
+	private Map<Integer, ProductDto> productDtos;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,19 @@
+package com.selimhorri.app.business.orderDetails.service;
+
+import com.selimhorri.app.business.orderDetails.model.OrderDetailsDto;
+
+public interface OrderDetailsService {
+	
+	OrderDetailsDto findById(final String orderId);
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,168 @@
+package com.selimhorri.app.business.orderDetails.service.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.orderDetails.model.OrderDetailsDto;
+import com.selimhorri.app.business.orderDetails.service.OrderDetailsService;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.model.response.OrderItemOrderItemServiceDtoCollectionResponse;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.business.product.model.ProductDto;
+import com.selimhorri.app.business.product.service.ProductClientService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderDetailsServiceImpl implements OrderDetailsService {
+	
+	private final OrderClientService orderClientService;
+	private final OrderItemClientService orderItemClientService;
+	private final PaymentClientService paymentClientService;
+	private final ProductClientService productClientService;
+	private final Executor aggregationExecutor;
+	
+	/**
+	 * Order, items and payment are requested at the same time; the products follow as one
+	 * batch call as soon as the items are known, so the page costs about the two slowest
+	 * calls in sequence instead of the sum of all of them. Items and payment are fetched
+	 * without remote enrichment, since the document resolves the order and products itself.
+	 *
+	 * <p>When the aggregation executor is saturated, a rejected payment or product lookup
+	 * leaves that part out of the document, while a rejected order or items lookup answers
+	 * 503, as the document means nothing without them.
+	 */
+	@Override
+	public OrderDetailsDto findById(final String orderId) {
+		
+		log.info("*** OrderDetailsDto, service; fetch order details by id *");
+		final Integer id = parseOrderId(orderId);
+		
+		final CompletableFuture<OrderDto> orderFuture = this.supplyAggregation(
+				() -> this.orderClientService.findById(orderId).getBody(), OrderDetailsServiceImpl::unavailable);
+		final CompletableFuture<List<OrderItemDto>> orderItemsFuture = this.supplyAggregation(
+				() -> this.findOrderItems(id), OrderDetailsServiceImpl::unavailable);
+		final CompletableFuture<PaymentDto> paymentFuture = this.supplyAggregation(
+				() -> this.findPayment(id), rejected -> null);
+		final CompletableFuture<Map<Integer, ProductDto>> productsFuture = orderItemsFuture
+				.thenCompose(orderItemDtos -> this.supplyAggregation(
+						() -> this.findProducts(orderItemDtos), rejected -> Map.of()));
+		
+		try {
+			CompletableFuture.allOf(orderFuture, paymentFuture, productsFuture).join();
+		}
+		catch (final CompletionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw e;
+		}
+		
+		return OrderDetailsDto.builder()
+				.orderDto(orderFuture.join())
+				.orderItemDtos(orderItemsFuture.join())
+				.paymentDto(paymentFuture.join())
+				.productDtos(productsFuture.join())
+				.build();
+	}
+	
+	/**
+	 * Runs a lookup on the aggregation executor, or answers it with the fallback right away
+	 * when the executor is saturated.
+	 */
+	private <T> CompletableFuture<T> supplyAggregation(final Supplier<T> lookup, 
+			final Function<RejectedExecutionException, T> fallback) {
+		try {
+			return CompletableFuture.supplyAsync(lookup, this.aggregationExecutor);
+		}
+		catch (final RejectedExecutionException e) {
+			return CompletableFuture.completedFuture(fallback.apply(e));
+		}
+	}
+	
+	private static <T> T unavailable(final RejectedExecutionException e) {
+		throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, 
+				"Order details aggregation is saturated, retry later", e);
+	}
+	
+	private static Integer parseOrderId(final String orderId) {
+		try {
+			return Integer.parseInt(orderId.strip());
+		}
+		catch (final NumberFormatException e) {
+			throw new IllegalStateException(String.format("Invalid orderId: %s", orderId));
+		}
+	}
+	
+	/**
+	 * The items come back carrying only ids; the document carries the order and each product
+	 * once.
+	 */
+	private List<OrderItemDto> findOrderItems(final Integer orderId) {
+		return Optional.ofNullable(this.orderItemClientService.findAllByOrderId(String.valueOf(orderId), false).getBody())
+				.map(OrderItemOrderItemServiceDtoCollectionResponse::getCollection)
+				.stream()
+				.flatMap(Collection::stream)
+				.map(orderItemDto -> OrderItemDto.builder()
+						.orderId(orderItemDto.getOrderId())
+						.productId(orderItemDto.getProductId())
+						.orderedQuantity(orderItemDto.getOrderedQuantity())
+						.build())
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * Goes through the batch variant so an order without a payment yet is an absent key
+	 * rather than an error response.
+	 */
+	private PaymentDto findPayment(final Integer orderId) {
+		return Optional.ofNullable(this.paymentClientService.findAllByOrderIds(List.of(orderId), false).getBody())
+				.map(paymentDtos -> paymentDtos.get(orderId))
+				.orElse(null);
+	}
+	
+	private Map<Integer, ProductDto> findProducts(final List<OrderItemDto> orderItemDtos) {
+		final List<Integer> productIds = orderItemDtos.stream()
+				.map(OrderItemDto::getProductId)
+				.filter(Objects::nonNull)
+				.distinct()
+				.collect(Collectors.toUnmodifiableList());
+		if (productIds.isEmpty())
+			return Map.of();
+		return Optional.ofNullable(this.productClientService.findAllByIds(productIds).getBody())
+				.orElseGet(Map::of);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.orderItem.model.OrderItemDto;
@@ -29,6 +30,13 @@ public class OrderItemController {
 		return ResponseEntity.ok(this.orderItemClientService.findAll().getBody());
 	}
 	
+	@GetMapping(params = "size")
+	public ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAll(
+			@RequestParam(name = "cursor", required = false) final String cursor, 
+			@RequestParam("size") final int size) {
+		return ResponseEntity.ok(this.orderItemClientService.findAll(cursor, size).getBody());
+	}
+	
 	@GetMapping("/{orderId}/{productId}")
 	public ResponseEntity<OrderItemDto> findById(
 			@PathVariable("orderId") final String orderId, 
@@ -37,6 +45,12 @@ public class OrderItemController {
 				Integer.parseInt(orderId))).getBody());
 	}
 	
+	@GetMapping("/order/{orderId}")
+	public ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAllByOrderId(
+			@PathVariable("orderId") final String orderId) {
+		return ResponseEntity.ok(this.orderItemClientService.findAllByOrderId(orderId).getBody());
+	}
+	
 	@GetMapping("/find")
 	public ResponseEntity<OrderItemDto> findById(@RequestBody final OrderItemId orderItemId) {
 		return ResponseEntity.ok(this.orderItemClientService.findById(orderItemId).getBody());
@@ -18,5 +18,6 @@ public class OrderItemOrderItemServiceDtoCollectionResponse implements Serializa
 	
 	private static final long serialVersionUID = 1L;
 	private Collection<OrderItemDto> collection;
+	private String nextCursor;
 	
 }
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.orderItem.model.OrderItemDto;
 import com.selimhorri.app.business.orderItem.model.OrderItemId;
@@ -22,11 +23,25 @@ public interface OrderItemClientService {
 	@GetMapping
 	ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAll();
 	
+	@GetMapping
+	ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAll(
+			@RequestParam(name = "cursor", required = false) final String cursor, 
+			@RequestParam("size") final int size);
+	
 	@GetMapping("/{orderId}/{productId}")
 	ResponseEntity<OrderItemDto> findById(
 			@PathVariable("orderId") final String orderId, 
 			@PathVariable("productId") final String productId);
 	
+	@GetMapping("/order/{orderId}")
+	ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAllByOrderId(
+			@PathVariable("orderId") final String orderId);
+	
+	@GetMapping("/order/{orderId}")
+	ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAllByOrderId(
+			@PathVariable("orderId") final String orderId, 
+			@RequestParam("enrich") final boolean enrich);
+	
 	@GetMapping("/find")
 	ResponseEntity<OrderItemDto> findById(
 			@RequestBody 
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.payment.model.PaymentDto;
@@ -28,11 +29,23 @@ public class PaymentController {
 		return ResponseEntity.ok(this.paymentClientService.findAll().getBody());
 	}
 	
+	@GetMapping(params = "size")
+	public ResponseEntity<PaymentPaymentServiceDtoCollectionResponse> findAll(
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam("size") final int size) {
+		return ResponseEntity.ok(this.paymentClientService.findAll(cursor, size).getBody());
+	}
+	
 	@GetMapping("/{paymentId}")
 	public ResponseEntity<PaymentDto> findById(@PathVariable("paymentId") final String paymentId) {
 		return ResponseEntity.ok(this.paymentClientService.findById(paymentId).getBody());
 	}
 	
+	@GetMapping("/order/{orderId}")
+	public ResponseEntity<PaymentDto> findByOrderId(@PathVariable("orderId") final String orderId) {
+		return ResponseEntity.ok(this.paymentClientService.findByOrderId(orderId).getBody());
+	}
+	
 	@PostMapping
 	public ResponseEntity<PaymentDto> save(@RequestBody final PaymentDto paymentDto) {
 		return ResponseEntity.ok(this.paymentClientService.save(paymentDto).getBody());
@@ -1,5 +1,8 @@
 package com.selimhorri.app.business.payment.service;
 
+import java.util.List;
+import java.util.Map;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.payment.model.PaymentDto;
 import com.selimhorri.app.business.payment.model.response.PaymentPaymentServiceDtoCollectionResponse;
@@ -22,12 +26,36 @@ public interface PaymentClientService {
 	@GetMapping
 	public ResponseEntity<PaymentPaymentServiceDtoCollectionResponse> findAll();
 	
+	@GetMapping
+	public ResponseEntity<PaymentPaymentServiceDtoCollectionResponse> findAll(
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam("size") final int size);
+	
 	@GetMapping("/{paymentId}")
 	public ResponseEntity<PaymentDto> findById(
 			@PathVariable("paymentId") 
 			@NotBlank(message = "Input must not be blank!") 
 			@Valid final String paymentId);
 	
+	@GetMapping("/order/{orderId}")
+	public ResponseEntity<PaymentDto> findByOrderId(
+			@PathVariable("orderId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String orderId);
+	
+	@PostMapping("/order/batch")
+	public ResponseEntity<Map<Integer, PaymentDto>> findAllByOrderIds(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final List<Integer> orderIds);
+	
+	@PostMapping("/order/batch")
+	public ResponseEntity<Map<Integer, PaymentDto>> findAllByOrderIds(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final List<Integer> orderIds, 
+			@RequestParam("enrich") final boolean enrich);
+	
 	@PostMapping
 	public ResponseEntity<PaymentDto> save(
 			@RequestBody 
@@ -1,5 +1,6 @@
 package com.selimhorri.app.business.product.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -7,7 +8,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.product.model.CategoryDto;
@@ -24,13 +27,22 @@ public class CategoryController {
 	private final CategoryClientService categoryClientService;
 	
 	@GetMapping
-	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.categoryClientService.findAll().getBody());
+	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll(
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+		return withEtag(this.categoryClientService.findAll(ifNoneMatch));
+	}
+	
+	@GetMapping(params = "size")
+	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", defaultValue = "0") final int page, 
+			@RequestParam("size") final int size) {
+		return ResponseEntity.ok(this.categoryClientService.findAll(page, size).getBody());
 	}
 	
 	@GetMapping("/{categoryId}")
-	public ResponseEntity<CategoryDto> findById(@PathVariable("categoryId") final String categoryId) {
-		return ResponseEntity.ok(this.categoryClientService.findById(categoryId).getBody());
+	public ResponseEntity<CategoryDto> findById(@PathVariable("categoryId") final String categoryId, 
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+		return withEtag(this.categoryClientService.findById(categoryId, ifNoneMatch));
 	}
 	
 	@PostMapping
@@ -54,6 +66,13 @@ public class CategoryController {
 		return ResponseEntity.ok(this.categoryClientService.deleteById(categoryId).getBody());
 	}
 	
+	private static <T> ResponseEntity<T> withEtag(final ResponseEntity<T> response) {
+		final String etag = response.getHeaders().getETag();
+		return etag == null 
+				? ResponseEntity.ok(response.getBody()) 
+				: ResponseEntity.ok().eTag(etag).body(response.getBody());
+	}
+	
 	
 	
 }
@@ -1,5 +1,9 @@
 package com.selimhorri.app.business.product.controller;
 
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -7,7 +11,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.product.model.ProductDto;
@@ -24,13 +30,27 @@ public class ProductController {
 	private final ProductClientService productClientService;
 	
 	@GetMapping
-	public ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.productClientService.findAll().getBody());
+	public ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll(
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+		return withEtag(this.productClientService.findAll(ifNoneMatch));
+	}
+	
+	@GetMapping(params = "size")
+	public ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam("size") final int size) {
+		return ResponseEntity.ok(this.productClientService.findAll(cursor, size).getBody());
 	}
 	
 	@GetMapping("/{productId}")
-	public ResponseEntity<ProductDto> findById(@PathVariable("productId") final String productId) {
-		return ResponseEntity.ok(this.productClientService.findById(productId).getBody());
+	public ResponseEntity<ProductDto> findById(@PathVariable("productId") final String productId, 
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch) {
+		return withEtag(this.productClientService.findById(productId, ifNoneMatch));
+	}
+	
+	@PostMapping("/batch")
+	public ResponseEntity<Map<Integer, ProductDto>> findAllByIds(@RequestBody final List<Integer> productIds) {
+		return ResponseEntity.ok(this.productClientService.findAllByIds(productIds).getBody());
 	}
 	
 	@PostMapping
@@ -54,6 +74,13 @@ public class ProductController {
 		return ResponseEntity.ok(this.productClientService.deleteById(productId).getBody());
 	}
 	
+	private static <T> ResponseEntity<T> withEtag(final ResponseEntity<T> response) {
+		final String etag = response.getHeaders().getETag();
+		return etag == null 
+				? ResponseEntity.ok(response.getBody()) 
+				: ResponseEntity.ok().eTag(etag).body(response.getBody());
+	}
+	
 	
 	
 }
@@ -18,5 +18,6 @@ public class CategoryProductServiceCollectionDtoResponse implements Serializable
 	
 	private static final long serialVersionUID = 1L;
 	private Collection<CategoryDto> collection;
+	private String nextCursor;
 	
 }
@@ -5,6 +5,7 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,6 +13,8 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.product.model.CategoryDto;
 import com.selimhorri.app.business.product.model.response.CategoryProductServiceCollectionDtoResponse;
@@ -20,13 +23,20 @@ import com.selimhorri.app.business.product.model.response.CategoryProductService
 public interface CategoryClientService {
 	
 	@GetMapping
-	ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll();
+	ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll(
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch);
+	
+	@GetMapping
+	ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", defaultValue = "0") final int page, 
+			@RequestParam("size") final int size);
 	
 	@GetMapping("/{categoryId}")
 	ResponseEntity<CategoryDto> findById(
 			@PathVariable("categoryId") 
 			@NotBlank(message = "Input must not be blank!") 
-			@Valid final String categoryId);
+			@Valid final String categoryId, 
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch);
 	
 	@PostMapping
 	ResponseEntity<CategoryDto> save(
@@ -1,10 +1,14 @@
 package com.selimhorri.app.business.product.service;
 
+import java.util.List;
+import java.util.Map;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,6 +16,8 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.product.model.ProductDto;
 import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
@@ -20,13 +26,26 @@ import com.selimhorri.app.business.product.model.response.ProductProductServiceC
 public interface ProductClientService {
 	
 	@GetMapping
-	ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll();
+	ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll(
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch);
+	
+	@GetMapping
+	ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam("size") final int size);
 	
 	@GetMapping("/{productId}")
 	ResponseEntity<ProductDto> findById(
 			@PathVariable("productId") 
 			@NotBlank(message = "Input must not be blank!") 
-			@Valid final String productId);
+			@Valid final String productId, 
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch);
+	
+	@PostMapping("/batch")
+	ResponseEntity<Map<Integer, ProductDto>> findAllByIds(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final List<Integer> productIds);
 	
 	@PostMapping
 	ResponseEntity<ProductDto> save(
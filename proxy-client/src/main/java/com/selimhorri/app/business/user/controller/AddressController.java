@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.user.model.AddressDto;
@@ -28,6 +29,13 @@ public class AddressController {
 		return ResponseEntity.ok(this.addressClientService.findAll().getBody());
 	}
 	
+	@GetMapping(params = "size")
+	public ResponseEntity<AddressUserServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", defaultValue = "0") final int page, 
+			@RequestParam("size") final int size) {
+		return ResponseEntity.ok(this.addressClientService.findAll(page, size).getBody());
+	}
+	
 	@GetMapping("/{addressId}")
 	public ResponseEntity<AddressDto> findById(@PathVariable("addressId") final String addressId) {
 		return ResponseEntity.ok(this.addressClientService.findById(addressId).getBody());
@@ -1,5 +1,6 @@
 package com.selimhorri.app.business.user.controller;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,11 +9,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.business.auth.service.UserDetailsCacheService;
 import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.response.CredentialUserServiceCollectionDtoResponse;
 import com.selimhorri.app.business.user.service.CredentialClientService;
+import com.selimhorri.app.jwt.service.JwtRevocationService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,12 +26,24 @@ import lombok.RequiredArgsConstructor;
 public class CredentialController {
 	
 	private final CredentialClientService credentialClientService;
+	private final UserDetailsCacheService userDetailsCacheService;
+	private final JwtRevocationService jwtRevocationService;
+	
+	@Value("${app.jwt.stateless-authorities:false}")
+	private boolean statelessAuthorities;
 	
 	@GetMapping
 	public ResponseEntity<CredentialUserServiceCollectionDtoResponse> findAll() {
 		return ResponseEntity.ok(this.credentialClientService.findAll().getBody());
 	}
 	
+	@GetMapping(params = "size")
+	public ResponseEntity<CredentialUserServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", defaultValue = "0") final int page, 
+			@RequestParam("size") final int size) {
+		return ResponseEntity.ok(this.credentialClientService.findAll(page, size).getBody());
+	}
+	
 	@GetMapping("/{credentialId}")
 	public ResponseEntity<CredentialDto> findById(@PathVariable("credentialId") final String credentialId) {
 		return ResponseEntity.ok(this.credentialClientService.findById(credentialId).getBody());
@@ -45,17 +61,44 @@ public class CredentialController {
 	
 	@PutMapping
 	public ResponseEntity<CredentialDto> update(@RequestBody final CredentialDto credentialDto) {
-		return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
+		final CredentialDto updated = this.credentialClientService.update(credentialDto).getBody();
+		this.evict(credentialDto);
+		return ResponseEntity.ok(updated);
 	}
 	
 	@PutMapping("/{credentialId}")
 	public ResponseEntity<CredentialDto> update(@PathVariable("credentialId") final String credentialId, @RequestBody final CredentialDto credentialDto) {
-		return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
+		final CredentialDto updated = this.credentialClientService.update(credentialDto).getBody();
+		this.evictCredentialId(credentialId);
+		this.evict(credentialDto);
+		return ResponseEntity.ok(updated);
 	}
 	
 	@DeleteMapping("/{credentialId}")
 	public ResponseEntity<Boolean> deleteById(@PathVariable("credentialId") final String credentialId) {
-		return ResponseEntity.ok(this.credentialClientService.deleteById(credentialId).getBody());
+		final Boolean deleted = this.credentialClientService.deleteById(credentialId).getBody();
+		this.evictCredentialId(credentialId);
+		return ResponseEntity.ok(deleted);
+	}
+	
+	private void evict(final CredentialDto credentialDto) {
+		if (credentialDto == null)
+			return;
+		this.userDetailsCacheService.evictByUsername(credentialDto.getUsername());
+		if (this.statelessAuthorities)
+			this.jwtRevocationService.revokeUsername(credentialDto.getUsername());
+		if (credentialDto.getCredentialId() != null)
+			this.evictCredentialId(String.valueOf(credentialDto.getCredentialId()));
+	}
+	
+	/**
+	 * Tokens only need revoking when they carry authorities; otherwise every request reloads
+	 * the principal, and the cache eviction is enough.
+	 */
+	private void evictCredentialId(final String credentialId) {
+		this.userDetailsCacheService.evictByCredentialId(credentialId);
+		if (this.statelessAuthorities)
+			this.jwtRevocationService.revokeCredentialId(credentialId);
 	}
 	
 	
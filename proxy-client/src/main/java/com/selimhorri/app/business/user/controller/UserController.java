@@ -1,5 +1,8 @@
 package com.selimhorri.app.business.user.controller;
 
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,6 +11,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.user.model.UserDto;
@@ -28,6 +32,13 @@ public class UserController {
 		return ResponseEntity.ok(this.userClientService.findAll().getBody());
 	}
 	
+	@GetMapping(params = "size")
+	public ResponseEntity<UserUserServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam("size") final int size) {
+		return ResponseEntity.ok(this.userClientService.findAll(cursor, size).getBody());
+	}
+	
 	@GetMapping("/{userId}")
 	public ResponseEntity<UserDto> findById(@PathVariable("userId") final String userId) {
 		return ResponseEntity.ok(this.userClientService.findById(userId).getBody());
@@ -38,6 +49,11 @@ public class UserController {
 		return ResponseEntity.ok(this.userClientService.findByUsername(username).getBody());
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<Map<Integer, UserDto>> findAllByIds(@RequestBody final List<Integer> userIds) {
+		return ResponseEntity.ok(this.userClientService.findAllByIds(userIds).getBody());
+	}
+	
 	@PostMapping
 	public ResponseEntity<UserDto> save(@RequestBody final UserDto userDto) {
 		return ResponseEntity.ok(this.userClientService.save(userDto).getBody());
@@ -18,5 +18,6 @@ public class AddressUserServiceCollectionDtoResponse implements Serializable {
 	
 	private static final long serialVersionUID = 1L;
 	private Collection<AddressDto> collection;
+	private String nextCursor;
 	
 }
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.response.CredentialUserServiceCollectionDtoResponse;
@@ -22,6 +23,11 @@ public interface CredentialClientService {
 	@GetMapping
 	ResponseEntity<CredentialUserServiceCollectionDtoResponse> findAll();
 	
+	@GetMapping
+	ResponseEntity<CredentialUserServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", defaultValue = "0") final int page, 
+			@RequestParam("size") final int size);
+	
 	@GetMapping("/{credentialId}")
 	ResponseEntity<CredentialDto> findById(
 			@PathVariable("credentialId") 
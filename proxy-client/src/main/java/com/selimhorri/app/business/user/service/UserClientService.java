@@ -1,5 +1,8 @@
 package com.selimhorri.app.business.user.service;
 
+import java.util.List;
+import java.util.Map;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.user.model.UserDto;
 import com.selimhorri.app.business.user.model.response.UserUserServiceCollectionDtoResponse;
@@ -22,6 +26,11 @@ public interface UserClientService {
 	@GetMapping
 	ResponseEntity<UserUserServiceCollectionDtoResponse> findAll();
 	
+	@GetMapping
+	ResponseEntity<UserUserServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam("size") final int size);
+	
 	@GetMapping("/{userId}")
 	ResponseEntity<UserDto> findById(
 			@PathVariable("userId") 
@@ -34,6 +43,12 @@ public interface UserClientService {
 			@NotBlank(message = "*Input must not blank!**") 
 			@Valid final String username);
 	
+	@PostMapping("/batch")
+	ResponseEntity<Map<Integer, UserDto>> findAllByIds(
+			@RequestBody 
+			@NotNull(message = "*Input must not NULL!**") 
+			@Valid final List<Integer> userIds);
+	
 	@PostMapping
 	ResponseEntity<UserDto> save(
 			@RequestBody 
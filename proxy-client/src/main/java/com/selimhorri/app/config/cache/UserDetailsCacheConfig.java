@@ -0,0 +1,46 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.business.user.model.CredentialDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+public class UserDetailsCacheConfig {
+	
+	public static final String USER_DETAILS_CACHE = "userDetails";
+	
+	@Bean
+	public Cache<String, CredentialDto> userDetailsCache(
+			@Value("${app.cache.user-details.ttl:5m}") final Duration ttl, 
+			@Value("${app.cache.user-details.maximum-size:10000}") final long maximumSize, 
+			final MeterRegistry meterRegistry) {
+		final Cache<String, CredentialDto> cache = Caffeine.newBuilder()
+				.expireAfterWrite(ttl)
+				.maximumSize(maximumSize)
+				.recordStats()
+				.build();
+		return CaffeineCacheMetrics.monitor(meterRegistry, cache, USER_DETAILS_CACHE);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,68 @@
+package com.selimhorri.app.config.executor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.selimhorri.app.config.properties.AggregationExecutorProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class AggregationExecutorConfig {
+	
+	private static final String METRIC_PREFIX = "proxy.aggregation.executor";
+	
+	/**
+	 * Runs the downstream calls of composite endpoints side by side. A full queue rejects the
+	 * task rather than running it on the request thread, which would take downstream
+	 * concurrency past the pool size; callers drop an optional part of the document or answer
+	 * 503 when a required part is rejected.
+	 */
+	@Bean(name = "aggregationExecutor")
+	public ThreadPoolTaskExecutor aggregationExecutor(final AggregationExecutorProperties properties, 
+			final MeterRegistry meterRegistry) {
+		
+		final var rejections = Counter.builder(METRIC_PREFIX + ".rejected")
+				.description("Aggregation tasks rejected because the queue was full")
+				.register(meterRegistry);
+		final var abortPolicy = new ThreadPoolExecutor.AbortPolicy();
+		
+		final var executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(properties.getPoolSize());
+		executor.setMaxPoolSize(properties.getPoolSize());
+		executor.setQueueCapacity(properties.getQueueCapacity());
+		executor.setThreadNamePrefix("aggregation-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setRejectedExecutionHandler((task, pool) -> {
+			rejections.increment();
+			abortPolicy.rejectedExecution(task, pool);
+		});
+		
+		Gauge.builder(METRIC_PREFIX + ".queue.size", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+				.description("Aggregation tasks waiting for a worker")
+				.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolTaskExecutor::getActiveCount)
+				.description("Aggregation tasks currently running")
+				.register(meterRegistry);
+		
+		return executor;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
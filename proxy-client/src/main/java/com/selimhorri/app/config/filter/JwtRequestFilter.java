@@ -7,6 +7,7 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,6 +16,7 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.selimhorri.app.jwt.service.JwtRevocationService;
 import com.selimhorri.app.jwt.service.JwtService;
 
 import lombok.RequiredArgsConstructor;
@@ -27,6 +29,10 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 	
 	private final UserDetailsService userDetailsService;
 	private final JwtService jwtService;
+	private final JwtRevocationService jwtRevocationService;
+	
+	@Value("${app.jwt.stateless-authorities:false}")
+	private boolean statelessAuthorities;
 	
 	@Override
 	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) 
@@ -46,9 +52,12 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 		
 		if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 			
-			final UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+			final UserDetails userDetails = this.resolveUserDetails(jwt, username);
 			
-			final Boolean isValid = this.jwtService.validateToken(jwt, userDetails);
+			final Boolean isValid = this.jwtService.validateToken(jwt, userDetails) 
+					&& userDetails.isEnabled() 
+					&& userDetails.isAccountNonLocked() 
+					&& !this.jwtRevocationService.isRevoked(jwt);
 			if (Boolean.TRUE.equals(isValid)) {
 				final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
 						new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -62,6 +71,19 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 		log.info("**Jwt request filtered!*\n");
 	}
 	
+	/**
+	 * In stateless mode the principal comes from the signed claims, so the request makes no
+	 * remote call; tokens minted before authorities were embedded still fall back to a lookup.
+	 */
+	private UserDetails resolveUserDetails(final String jwt, final String username) {
+		if (this.statelessAuthorities) {
+			final UserDetails userDetails = this.jwtService.extractUserDetails(jwt);
+			if (userDetails != null)
+				return userDetails;
+		}
+		return this.userDetailsService.loadUserByUsername(username);
+	}
+	
 	
 	
 }
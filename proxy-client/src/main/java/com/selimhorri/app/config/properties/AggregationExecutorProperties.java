@@ -0,0 +1,19 @@
+package com.selimhorri.app.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.aggregation.executor")
+public class AggregationExecutorProperties {
+
+    /**
+     * Worker threads for composite endpoints. Each aggregated request holds up to three of
+     * them at once, and every one holds a pooled HTTP connection while it waits.
+     */
+    private int poolSize = 24;
+    private int queueCapacity = 100;
+}
@@ -1,17 +1,50 @@
 package com.selimhorri.app.config.template;
 
-import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import com.selimhorri.app.exception.wrapper.NotModifiedException;
+import com.selimhorri.commons.config.properties.HttpClientProperties;
+
+import feign.Request;
+import feign.codec.ErrorDecoder;
 
 @Configuration
 public class TemplateConfig {
 	
-	@LoadBalanced
+	/**
+	 * Feign sets its own per-request timeouts over the client defaults, so it gets the same
+	 * values here instead of its 10s connect / 60s read.
+	 */
 	@Bean
-	public RestTemplate restTemplateBean() {
-		return new RestTemplate();
+	public Request.Options feignRequestOptions(final HttpClientProperties properties) {
+		return new Request.Options(
+				properties.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS, 
+				properties.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS, 
+				true);
+	}
+	
+	/**
+	 * Feign only decodes 2xx bodies, so a 304 answering a forwarded If-None-Match is
+	 * lifted out of the error path here instead of surfacing as a failed call.
+	 */
+	@Bean
+	public ErrorDecoder feignErrorDecoder() {
+		final var defaultErrorDecoder = new ErrorDecoder.Default();
+		return (methodKey, response) -> {
+			if (response.status() == HttpStatus.NOT_MODIFIED.value())
+				return new NotModifiedException(response.headers()
+						.getOrDefault(HttpHeaders.ETAG, List.of())
+						.stream()
+						.findFirst()
+						.orElse(null));
+			return defaultErrorDecoder.decode(methodKey, response);
+		};
 	}
 	
 	
@@ -26,4 +59,3 @@ public class TemplateConfig {
 
 
 
-
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import com.selimhorri.app.exception.payload.ExceptionMsg;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
+import com.selimhorri.app.exception.wrapper.NotModifiedException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.exception.wrapper.VerificationTokenNotFoundException;
 
@@ -47,6 +48,17 @@ public class ApiExceptionHandler {
 					.build(), badRequest);
 	}
 	
+	@ExceptionHandler(value = NotModifiedException.class)
+	public ResponseEntity<Void> handleNotModifiedException(final NotModifiedException e) {
+		
+		log.info("**ApiExceptionHandler controller, handle not modified*\n");
+		final var notModified = ResponseEntity.status(HttpStatus.NOT_MODIFIED);
+		
+		return e.getEtag() == null 
+				? notModified.build() 
+				: notModified.eTag(e.getEtag()).build();
+	}
+	
 	@ExceptionHandler(value = {
 		MethodArgumentNotValidException.class,
 		HttpMessageNotReadableException.class
@@ -0,0 +1,33 @@
+package com.selimhorri.app.exception.wrapper;
+
+import lombok.Getter;
+
+/**
+ * Raised for a downstream 304 so the caller's conditional GET can be answered in kind.
+ * It is control flow rather than a failure, hence no stack trace.
+ */
+@Getter
+public class NotModifiedException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private final String etag;
+	
+	public NotModifiedException(final String etag) {
+		super("Not modified", null, false, false);
+		this.etag = etag;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,9 @@
+package com.selimhorri.app.jwt.service;
+
+public interface JwtRevocationService {
+	
+	void revokeUsername(final String username);
+	void revokeCredentialId(final String credentialId);
+	Boolean isRevoked(final String token);
+	
+}
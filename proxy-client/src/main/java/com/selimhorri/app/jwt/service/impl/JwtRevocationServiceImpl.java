@@ -0,0 +1,98 @@
+package com.selimhorri.app.jwt.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.jwt.service.JwtRevocationService;
+import com.selimhorri.app.jwt.service.JwtService;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Short-lived deny list for tokens whose embedded authorities went stale. An entry only needs
+ * to outlive the tokens issued before it, so entries expire after the token lifetime and the
+ * list stays small.
+ * <p>
+ * Tokens carry {@code iat} in whole seconds, so revocations are recorded at the same precision
+ * and tokens issued up to and including that second are rejected, since a token minted just
+ * before the change cannot be told apart from one minted just after it. A re-login within the
+ * second of a revocation is rejected too and has to be repeated once that second has passed.
+ * <p>
+ * The list is held per instance: a revocation only takes effect on the replica that received
+ * the change, and other replicas running with stateless authorities keep accepting the old
+ * token until it expires.
+ */
+@Service
+@Slf4j
+public class JwtRevocationServiceImpl implements JwtRevocationService {
+	
+	private static final String USERNAME_KEY_PREFIX = "u:";
+	private static final String CREDENTIAL_ID_KEY_PREFIX = "c:";
+	
+	private final JwtService jwtService;
+	private final Cache<String, Instant> revocations;
+	
+	public JwtRevocationServiceImpl(final JwtService jwtService, 
+			@Value("${app.jwt.revocation.retention:10h}") final Duration retention) {
+		this.jwtService = jwtService;
+		this.revocations = Caffeine.newBuilder()
+				.expireAfterWrite(retention)
+				.build();
+	}
+	
+	@Override
+	public void revokeUsername(final String username) {
+		log.info("**Void, jwt revocation service revoke tokens of given username!*");
+		if (username != null)
+			this.revocations.put(USERNAME_KEY_PREFIX + username, now());
+	}
+	
+	@Override
+	public void revokeCredentialId(final String credentialId) {
+		log.info("**Void, jwt revocation service revoke tokens of given credentialId!*");
+		if (credentialId != null)
+			this.revocations.put(CREDENTIAL_ID_KEY_PREFIX + credentialId.strip(), now());
+	}
+	
+	@Override
+	public Boolean isRevoked(final String token) {
+		if (this.revocations.estimatedSize() == 0)
+			return false;
+		final Claims claims = this.jwtService.extractClaims(token, c -> c);
+		final Object credentialId = claims.get(JwtUtilImpl.CREDENTIAL_ID_CLAIM);
+		return this.isIssuedBy(claims.getIssuedAt(), USERNAME_KEY_PREFIX + claims.getSubject())
+				|| (credentialId != null 
+						&& this.isIssuedBy(claims.getIssuedAt(), CREDENTIAL_ID_KEY_PREFIX + credentialId));
+	}
+	
+	private boolean isIssuedBy(final Date issuedAt, final String key) {
+		final Instant revokedAt = this.revocations.getIfPresent(key);
+		return revokedAt != null && (issuedAt == null || !issuedAt.toInstant().isAfter(revokedAt));
+	}
+	
+	private static Instant now() {
+		return Instant.now().truncatedTo(ChronoUnit.SECONDS);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
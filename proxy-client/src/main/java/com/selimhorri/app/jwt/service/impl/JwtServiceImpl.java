@@ -50,6 +50,12 @@ public class JwtServiceImpl implements JwtService {
 		return this.jwtUtil.validateToken(token, userDetails);
 	}
 	
+	@Override
+	public UserDetails extractUserDetails(final String token) {
+		log.info("**UserDetails, jwt service extract signed user details from given token!*");
+		return this.jwtUtil.extractUserDetails(token);
+	}
+	
 	
 	
 }
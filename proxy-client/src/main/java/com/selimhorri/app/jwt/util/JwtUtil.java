@@ -14,5 +14,6 @@ public interface JwtUtil {
 	<T> T extractClaims(final String token, final Function<Claims, T> claimsResolver);
 	String generateToken(final UserDetails userDetails);
 	Boolean validateToken(final String token, final UserDetails userDetails);
+	UserDetails extractUserDetails(final String token);
 	
 }
@@ -1,13 +1,27 @@
 package com.selimhorri.app.jwt.util.impl;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
 import com.selimhorri.app.jwt.util.JwtUtil;
 
 import io.jsonwebtoken.Claims;
@@ -23,6 +37,26 @@ public class JwtUtilImpl implements JwtUtil {
 			? System.getenv("JWT_SECRET_KEY") 
 			: System.getProperty("jwt.secret.key", "default-secret-key-change-in-production");
 	
+	public static final String AUTHORITIES_CLAIM = "authorities";
+	public static final String CREDENTIAL_ID_CLAIM = "cid";
+	private static final String ENABLED_CLAIM = "enabled";
+	private static final String ACCOUNT_NON_EXPIRED_CLAIM = "accountNonExpired";
+	private static final String ACCOUNT_NON_LOCKED_CLAIM = "accountNonLocked";
+	private static final String CREDENTIALS_NON_EXPIRED_CLAIM = "credentialsNonExpired";
+	
+	/**
+	 * Verified claims keyed by a SHA-256 digest of the token, so each token is signature-checked
+	 * once and then served from memory until its own {@code exp} claim passes.
+	 */
+	private final Cache<String, Claims> claimsCache;
+	
+	public JwtUtilImpl(@Value("${app.jwt.claims-cache.maximum-size:10000}") final long claimsCacheMaximumSize) {
+		this.claimsCache = Caffeine.newBuilder()
+				.maximumSize(claimsCacheMaximumSize)
+				.expireAfter(new ClaimsExpiry())
+				.build();
+	}
+	
 	@Override
 	public String extractUsername(final String token) {
 		return this.extractClaims(token, Claims::getSubject);
@@ -40,6 +74,10 @@ public class JwtUtilImpl implements JwtUtil {
 	}
 	
 	private Claims extractAllClaims(final String token) {
+		return this.claimsCache.get(hash(token), key -> this.parseClaims(token));
+	}
+	
+	private Claims parseClaims(final String token) {
 		return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
 	}
 	
@@ -50,6 +88,15 @@ public class JwtUtilImpl implements JwtUtil {
 	@Override
 	public String generateToken(final UserDetails userDetails) {
 		final Map<String, Object> claims = new HashMap<>();
+		claims.put(AUTHORITIES_CLAIM, userDetails.getAuthorities().stream()
+				.map(GrantedAuthority::getAuthority)
+				.collect(Collectors.toList()));
+		claims.put(ENABLED_CLAIM, userDetails.isEnabled());
+		claims.put(ACCOUNT_NON_EXPIRED_CLAIM, userDetails.isAccountNonExpired());
+		claims.put(ACCOUNT_NON_LOCKED_CLAIM, userDetails.isAccountNonLocked());
+		claims.put(CREDENTIALS_NON_EXPIRED_CLAIM, userDetails.isCredentialsNonExpired());
+		if (userDetails instanceof UserDetailsImpl)
+			claims.put(CREDENTIAL_ID_CLAIM, ((UserDetailsImpl) userDetails).getCredentialId());
 		return this.createToken(claims, userDetails.getUsername());
 	}
 	
@@ -71,6 +118,64 @@ public class JwtUtilImpl implements JwtUtil {
 		);
 	}
 	
+	/**
+	 * Rebuilds the principal from the signed claims alone. Returns {@code null} for tokens
+	 * issued before authorities were embedded, so callers can fall back to a lookup.
+	 */
+	@Override
+	public UserDetails extractUserDetails(final String token) {
+		final Claims claims = this.extractAllClaims(token);
+		final Collection<?> authorities = claims.get(AUTHORITIES_CLAIM, Collection.class);
+		if (authorities == null)
+			return null;
+		return User.withUsername(claims.getSubject())
+				.password("")
+				.authorities(authorities.stream()
+						.map(String::valueOf)
+						.toArray(String[]::new))
+				.disabled(!Boolean.TRUE.equals(claims.get(ENABLED_CLAIM, Boolean.class)))
+				.accountExpired(!Boolean.TRUE.equals(claims.get(ACCOUNT_NON_EXPIRED_CLAIM, Boolean.class)))
+				.accountLocked(!Boolean.TRUE.equals(claims.get(ACCOUNT_NON_LOCKED_CLAIM, Boolean.class)))
+				.credentialsExpired(!Boolean.TRUE.equals(claims.get(CREDENTIALS_NON_EXPIRED_CLAIM, Boolean.class)))
+				.build();
+	}
+	
+	private static String hash(final String token) {
+		try {
+			return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256")
+					.digest(token.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static final class ClaimsExpiry implements Expiry<String, Claims> {
+		
+		private static final long UNBOUNDED_TOKEN_TTL_NANOS = Duration.ofMinutes(10).toNanos();
+		
+		@Override
+		public long expireAfterCreate(final String key, final Claims claims, final long currentTime) {
+			final Date expiration = claims.getExpiration();
+			if (expiration == null)
+				return UNBOUNDED_TOKEN_TTL_NANOS;
+			return Math.max(0L, Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos());
+		}
+		
+		@Override
+		public long expireAfterUpdate(final String key, final Claims claims, final long currentTime, 
+				final long currentDuration) {
+			return currentDuration;
+		}
+		
+		@Override
+		public long expireAfterRead(final String key, final Claims claims, final long currentTime, 
+				final long currentDuration) {
+			return currentDuration;
+		}
+		
+	}
+	
 	
 	
 }
@@ -8,7 +8,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,6 +15,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.selimhorri.app.business.auth.service.impl.UserDetailsServiceImpl;
 import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.RoleBasedAuthority;
@@ -27,7 +27,6 @@ class UserDetailsServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
-    @InjectMocks
     private UserDetailsServiceImpl userDetailsService;
 
     private CredentialDto credentialDto;
@@ -35,6 +34,7 @@ class UserDetailsServiceTest {
 
     @BeforeEach
     void setUp() {
+        userDetailsService = new UserDetailsServiceImpl(restTemplate, Caffeine.newBuilder().build());
         username = "testuser";
 
         credentialDto = CredentialDto.builder()
@@ -69,5 +69,38 @@ class UserDetailsServiceTest {
         verify(restTemplate).getForObject(anyString(), eq(CredentialDto.class));
     }
 
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache")
+    void testLoadUserByUsername_Twice_ShouldCallUserServiceOnce() {
+        // Given
+        when(restTemplate.getForObject(anyString(), eq(CredentialDto.class)))
+                .thenReturn(credentialDto);
+
+        // When
+        userDetailsService.loadUserByUsername(username);
+        UserDetails result = userDetailsService.loadUserByUsername(username);
+
+        // Then
+        assertEquals(username, result.getUsername());
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(CredentialDto.class));
+    }
+
+    @Test
+    @DisplayName("Should reload user details after credential eviction")
+    void testEvictByCredentialId_ShouldForceReload() {
+        // Given
+        when(restTemplate.getForObject(anyString(), eq(CredentialDto.class)))
+                .thenReturn(credentialDto);
+        userDetailsService.loadUserByUsername(username);
+
+        // When
+        userDetailsService.evictByCredentialId("1");
+        userDetailsService.loadUserByUsername(username);
+
+        // Then
+        verify(restTemplate, times(2)).getForObject(anyString(), eq(CredentialDto.class));
+    }
+
 }
 
@@ -57,6 +57,21 @@ class OrderControllerTest {
         verify(orderClientService).findAll();
     }
 
+    @Test
+    @DisplayName("Should pass a user's order page through with its cursor")
+    void testFindAllByUserId_ShouldReturnOrderPage() {
+        // Given
+        when(orderClientService.findAllByUserId("1", 5, 10)).thenReturn(ResponseEntity.ok(collectionResponse));
+
+        // When
+        ResponseEntity<OrderOrderServiceDtoCollectionResponse> response = orderController.findAllByUserId("1", 5, 10);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(collectionResponse, response.getBody());
+        verify(orderClientService).findAllByUserId("1", 5, 10);
+    }
+
     @Test
     @DisplayName("Should find order by id")
     void testFindById_ShouldReturnOrder() {
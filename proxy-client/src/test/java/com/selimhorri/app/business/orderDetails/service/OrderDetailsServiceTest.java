@@ -0,0 +1,166 @@
+package com.selimhorri.app.business.orderDetails.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.orderDetails.model.OrderDetailsDto;
+import com.selimhorri.app.business.orderDetails.service.impl.OrderDetailsServiceImpl;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.model.response.OrderItemOrderItemServiceDtoCollectionResponse;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.business.product.model.ProductDto;
+import com.selimhorri.app.business.product.service.ProductClientService;
+
+import feign.FeignException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderDetailsService Tests")
+class OrderDetailsServiceTest {
+
+    @Mock
+    private OrderClientService orderClientService;
+
+    @Mock
+    private OrderItemClientService orderItemClientService;
+
+    @Mock
+    private PaymentClientService paymentClientService;
+
+    @Mock
+    private ProductClientService productClientService;
+
+    private OrderDetailsService orderDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        orderDetailsService = new OrderDetailsServiceImpl(orderClientService, orderItemClientService,
+                paymentClientService, productClientService, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("Should aggregate order, items, payment and each product once")
+    void testFindById_ShouldAggregateOrderDetails() {
+        // Given
+        OrderDto orderDto = OrderDto.builder().orderId(1).build();
+        PaymentDto paymentDto = PaymentDto.builder()
+                .paymentId(7)
+                .orderDto(com.selimhorri.app.business.payment.model.OrderDto.builder().orderId(1).build())
+                .build();
+        when(orderClientService.findById("1")).thenReturn(ResponseEntity.ok(orderDto));
+        when(orderItemClientService.findAllByOrderId("1", false)).thenReturn(ResponseEntity.ok(
+                OrderItemOrderItemServiceDtoCollectionResponse.builder()
+                        .collection(List.of(
+                                OrderItemDto.builder().orderId(1).productId(10).orderedQuantity(2).build(),
+                                OrderItemDto.builder().orderId(1).productId(11).orderedQuantity(1).build(),
+                                OrderItemDto.builder().orderId(1).productId(10).orderedQuantity(1).build()))
+                        .build()));
+        when(paymentClientService.findAllByOrderIds(List.of(1), false)).thenReturn(ResponseEntity.ok(Map.of(1, paymentDto)));
+        when(productClientService.findAllByIds(List.of(10, 11))).thenReturn(ResponseEntity.ok(Map.of(
+                10, ProductDto.builder().productId(10).build(),
+                11, ProductDto.builder().productId(11).build())));
+
+        // When
+        OrderDetailsDto result = orderDetailsService.findById("1");
+
+        // Then
+        assertEquals(orderDto, result.getOrderDto());
+        assertEquals(3, result.getOrderItemDtos().size());
+        assertEquals(7, result.getPaymentDto().getPaymentId());
+        assertEquals(2, result.getProductDtos().size());
+        verify(productClientService, times(1)).findAllByIds(List.of(10, 11));
+    }
+
+    @Test
+    @DisplayName("Should skip the product lookup when the order has no items")
+    void testFindById_WithoutItems_ShouldNotFetchProducts() {
+        // Given
+        when(orderClientService.findById("1")).thenReturn(ResponseEntity.ok(OrderDto.builder().orderId(1).build()));
+        when(orderItemClientService.findAllByOrderId("1", false)).thenReturn(ResponseEntity.ok(
+                OrderItemOrderItemServiceDtoCollectionResponse.builder().collection(List.of()).build()));
+        when(paymentClientService.findAllByOrderIds(List.of(1), false)).thenReturn(ResponseEntity.ok(Map.of()));
+
+        // When
+        OrderDetailsDto result = orderDetailsService.findById("1");
+
+        // Then
+        assertTrue(result.getOrderItemDtos().isEmpty());
+        assertNull(result.getPaymentDto());
+        assertTrue(result.getProductDtos().isEmpty());
+        verifyNoInteractions(productClientService);
+    }
+
+    @Test
+    @DisplayName("Should leave the payment out when its lookup is rejected")
+    void testFindById_WhenPaymentLookupIsRejected_ShouldOmitPayment() {
+        // Given
+        AtomicInteger submitted = new AtomicInteger();
+        orderDetailsService = new OrderDetailsServiceImpl(orderClientService, orderItemClientService,
+                paymentClientService, productClientService, task -> {
+                    if (submitted.incrementAndGet() == 3)
+                        throw new RejectedExecutionException("queue full");
+                    task.run();
+                });
+        when(orderClientService.findById("1")).thenReturn(ResponseEntity.ok(OrderDto.builder().orderId(1).build()));
+        when(orderItemClientService.findAllByOrderId("1", false)).thenReturn(ResponseEntity.ok(
+                OrderItemOrderItemServiceDtoCollectionResponse.builder().collection(List.of()).build()));
+
+        // When
+        OrderDetailsDto result = orderDetailsService.findById("1");
+
+        // Then
+        assertNull(result.getPaymentDto());
+        verifyNoInteractions(paymentClientService);
+    }
+
+    @Test
+    @DisplayName("Should answer 503 when the order lookup is rejected")
+    void testFindById_WhenExecutorIsSaturated_ShouldAnswerServiceUnavailable() {
+        // Given
+        orderDetailsService = new OrderDetailsServiceImpl(orderClientService, orderItemClientService,
+                paymentClientService, productClientService, task -> {
+                    throw new RejectedExecutionException("queue full");
+                });
+
+        // When
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> orderDetailsService.findById("1"));
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+        verifyNoInteractions(orderClientService, orderItemClientService, paymentClientService);
+    }
+
+    @Test
+    @DisplayName("Should surface the downstream failure unwrapped")
+    void testFindById_WhenOrderLookupFails_ShouldRethrowCause() {
+        // Given
+        FeignException failure = mock(FeignException.class);
+        when(orderClientService.findById("1")).thenThrow(failure);
+        lenient().when(orderItemClientService.findAllByOrderId("1", false)).thenReturn(ResponseEntity.ok(
+                OrderItemOrderItemServiceDtoCollectionResponse.builder().collection(List.of()).build()));
+        lenient().when(paymentClientService.findAllByOrderIds(List.of(1), false)).thenReturn(ResponseEntity.ok(Map.of()));
+
+        // When / Then
+        assertSame(failure, assertThrows(FeignException.class, () -> orderDetailsService.findById("1")));
+    }
+
+}
@@ -46,15 +46,15 @@ class CategoryControllerTest {
         // Given
         ResponseEntity<CategoryProductServiceCollectionDtoResponse> serviceResponse = 
                 ResponseEntity.ok(collectionResponse);
-        when(categoryClientService.findAll()).thenReturn(serviceResponse);
+        when(categoryClientService.findAll(null)).thenReturn(serviceResponse);
 
         // When
-        ResponseEntity<CategoryProductServiceCollectionDtoResponse> response = categoryController.findAll();
+        ResponseEntity<CategoryProductServiceCollectionDtoResponse> response = categoryController.findAll(null);
 
         // Then
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        verify(categoryClientService).findAll();
+        verify(categoryClientService).findAll(null);
     }
 
     @Test
@@ -63,16 +63,16 @@ class CategoryControllerTest {
         // Given
         String categoryId = "1";
         ResponseEntity<CategoryDto> serviceResponse = ResponseEntity.ok(categoryDto);
-        when(categoryClientService.findById(categoryId)).thenReturn(serviceResponse);
+        when(categoryClientService.findById(categoryId, null)).thenReturn(serviceResponse);
 
         // When
-        ResponseEntity<CategoryDto> response = categoryController.findById(categoryId);
+        ResponseEntity<CategoryDto> response = categoryController.findById(categoryId, null);
 
         // Then
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        verify(categoryClientService).findById(categoryId);
+        verify(categoryClientService).findById(categoryId, null);
     }
 
     @Test
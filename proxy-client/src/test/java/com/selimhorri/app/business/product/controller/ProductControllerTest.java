@@ -46,15 +46,31 @@ class ProductControllerTest {
         // Given
         ResponseEntity<ProductProductServiceCollectionDtoResponse> serviceResponse = 
                 ResponseEntity.ok(collectionResponse);
-        when(productClientService.findAll()).thenReturn(serviceResponse);
+        when(productClientService.findAll(null)).thenReturn(serviceResponse);
 
         // When
-        ResponseEntity<ProductProductServiceCollectionDtoResponse> response = productController.findAll();
+        ResponseEntity<ProductProductServiceCollectionDtoResponse> response = productController.findAll(null);
 
         // Then
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        verify(productClientService).findAll();
+        verify(productClientService).findAll(null);
+    }
+
+    @Test
+    @DisplayName("Should pass the next cursor through when paging products")
+    void testFindAllPage_ShouldPassNextCursorThrough() {
+        // Given
+        collectionResponse.setNextCursor("10");
+        when(productClientService.findAll(null, 10)).thenReturn(ResponseEntity.ok(collectionResponse));
+
+        // When
+        ResponseEntity<ProductProductServiceCollectionDtoResponse> response = productController.findAll(null, 10);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("10", response.getBody().getNextCursor());
+        verify(productClientService).findAll(null, 10);
     }
 
     @Test
@@ -63,16 +79,33 @@ class ProductControllerTest {
         // Given
         String productId = "1";
         ResponseEntity<ProductDto> serviceResponse = ResponseEntity.ok(productDto);
-        when(productClientService.findById(productId)).thenReturn(serviceResponse);
+        when(productClientService.findById(productId, null)).thenReturn(serviceResponse);
 
         // When
-        ResponseEntity<ProductDto> response = productController.findById(productId);
+        ResponseEntity<ProductDto> response = productController.findById(productId, null);
 
         // Then
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        verify(productClientService).findById(productId);
+        verify(productClientService).findById(productId, null);
+    }
+
+    @Test
+    @DisplayName("Should forward If-None-Match and pass the etag back")
+    void testFindById_ShouldPassEtagThrough() {
+        // Given
+        String productId = "1";
+        when(productClientService.findById(productId, "\"v1\""))
+                .thenReturn(ResponseEntity.ok().eTag("\"v2\"").body(productDto));
+
+        // When
+        ResponseEntity<ProductDto> response = productController.findById(productId, "\"v1\"");
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"v2\"", response.getHeaders().getETag());
+        verify(productClientService).findById(productId, "\"v1\"");
     }
 
     @Test
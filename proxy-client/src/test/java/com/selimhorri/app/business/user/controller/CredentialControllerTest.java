@@ -13,10 +13,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import com.selimhorri.app.business.auth.service.UserDetailsCacheService;
 import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.response.CredentialUserServiceCollectionDtoResponse;
 import com.selimhorri.app.business.user.service.CredentialClientService;
+import com.selimhorri.app.jwt.service.JwtRevocationService;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CredentialController Tests")
@@ -25,6 +28,12 @@ class CredentialControllerTest {
     @Mock
     private CredentialClientService credentialClientService;
 
+    @Mock
+    private UserDetailsCacheService userDetailsCacheService;
+
+    @Mock
+    private JwtRevocationService jwtRevocationService;
+
     @InjectMocks
     private CredentialController credentialController;
 
@@ -122,6 +131,7 @@ class CredentialControllerTest {
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         verify(credentialClientService).update(credentialDto);
+        verify(userDetailsCacheService).evictByUsername("testuser");
     }
 
     @Test
@@ -143,9 +153,10 @@ class CredentialControllerTest {
     }
 
     @Test
-    @DisplayName("Should delete credential by id")
+    @DisplayName("Should delete credential by id and revoke its tokens with stateless authorities")
     void testDeleteById_ShouldReturnTrue() {
         // Given
+        ReflectionTestUtils.setField(credentialController, "statelessAuthorities", true);
         String credentialId = "1";
         ResponseEntity<Boolean> serviceResponse = ResponseEntity.ok(true);
         when(credentialClientService.deleteById(credentialId)).thenReturn(serviceResponse);
@@ -158,6 +169,23 @@ class CredentialControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertTrue(response.getBody());
         verify(credentialClientService).deleteById(credentialId);
+        verify(userDetailsCacheService).evictByCredentialId(credentialId);
+        verify(jwtRevocationService).revokeCredentialId(credentialId);
+    }
+
+    @Test
+    @DisplayName("Should only evict the cached principal without stateless authorities")
+    void testDeleteById_WithoutStatelessAuthorities_ShouldNotRevokeTokens() {
+        // Given
+        String credentialId = "1";
+        when(credentialClientService.deleteById(credentialId)).thenReturn(ResponseEntity.ok(true));
+
+        // When
+        credentialController.deleteById(credentialId);
+
+        // Then
+        verify(userDetailsCacheService).evictByCredentialId(credentialId);
+        verifyNoInteractions(jwtRevocationService);
     }
 }
 
@@ -0,0 +1,112 @@
+package com.selimhorri.app.config.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.selimhorri.app.jwt.service.JwtRevocationService;
+import com.selimhorri.app.jwt.service.JwtService;
+import com.selimhorri.app.jwt.service.impl.JwtRevocationServiceImpl;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtRequestFilter Tests")
+class JwtRequestFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private JwtService jwtService;
+
+    private JwtRevocationService jwtRevocationService;
+    private JwtRequestFilter jwtRequestFilter;
+    private MockHttpServletRequest request;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        jwtRevocationService = new JwtRevocationServiceImpl(jwtService, Duration.ofHours(10));
+        jwtRequestFilter = new JwtRequestFilter(userDetailsService, jwtService, jwtRevocationService);
+        ReflectionTestUtils.setField(jwtRequestFilter, "statelessAuthorities", true);
+
+        token = "test-jwt-token";
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+
+        final UserDetails userDetails = User.builder()
+                .username("testuser")
+                .password("")
+                .authorities("ROLE_USER")
+                .build();
+        final Claims claims = Jwts.claims()
+                .setSubject("testuser")
+                .setIssuedAt(Date.from(Instant.now().minusSeconds(60)));
+
+        when(jwtService.extractUsername(token)).thenReturn("testuser");
+        when(jwtService.extractUserDetails(token)).thenReturn(userDetails);
+        when(jwtService.validateToken(token, userDetails)).thenReturn(true);
+        lenient().when(jwtService.extractClaims(eq(token), any())).thenReturn(claims);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should authenticate a valid stateless token without a user lookup")
+    void testDoFilter_WhenStatelessTokenValid_ShouldAuthenticate() throws Exception {
+        // Given
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // When
+        jwtRequestFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        // Then
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals("testuser", SecurityContextHolder.getContext().getAuthentication().getName());
+        assertNotNull(filterChain.getRequest());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Should not authenticate a stateless token issued before its user was revoked")
+    void testDoFilter_WhenStatelessTokenRevoked_ShouldNotAuthenticate() throws Exception {
+        // Given
+        MockFilterChain filterChain = new MockFilterChain();
+        jwtRevocationService.revokeUsername("testuser");
+
+        // When
+        jwtRequestFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        // Then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNotNull(filterChain.getRequest());
+        verifyNoInteractions(userDetailsService);
+    }
+
+}
+
@@ -0,0 +1,147 @@
+package com.selimhorri.app.jwt.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.selimhorri.app.jwt.service.impl.JwtRevocationServiceImpl;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtRevocationService Tests")
+class JwtRevocationServiceTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    private JwtRevocationService jwtRevocationService;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        jwtRevocationService = new JwtRevocationServiceImpl(jwtService, Duration.ofHours(10));
+        token = "test-jwt-token";
+    }
+
+    @Test
+    @DisplayName("Should not parse the token while nothing is revoked")
+    void testIsRevoked_WhenNothingRevoked_ShouldReturnFalse() {
+        // When
+        Boolean result = jwtRevocationService.isRevoked(token);
+
+        // Then
+        assertFalse(result);
+        verifyNoInteractions(jwtService);
+    }
+
+    @Test
+    @DisplayName("Should revoke tokens issued before the username was revoked")
+    void testIsRevoked_WhenIssuedBeforeUsernameRevocation_ShouldReturnTrue() {
+        // Given
+        givenClaims("testuser", null, Instant.now().minusSeconds(60));
+        jwtRevocationService.revokeUsername("testuser");
+
+        // When
+        Boolean result = jwtRevocationService.isRevoked(token);
+
+        // Then
+        assertTrue(result);
+    }
+
+    @Test
+    @DisplayName("Should revoke tokens issued within the second of the revocation")
+    void testIsRevoked_WhenIssuedInSameSecondAsRevocation_ShouldReturnTrue() {
+        // Given
+        givenClaims("testuser", null, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        jwtRevocationService.revokeUsername("testuser");
+
+        // When
+        Boolean result = jwtRevocationService.isRevoked(token);
+
+        // Then
+        assertTrue(result);
+    }
+
+    @Test
+    @DisplayName("Should accept tokens issued after the second of the revocation")
+    void testIsRevoked_WhenIssuedAfterRevocation_ShouldReturnFalse() {
+        // Given
+        jwtRevocationService.revokeUsername("testuser");
+        givenClaims("testuser", null, Instant.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1));
+
+        // When
+        Boolean result = jwtRevocationService.isRevoked(token);
+
+        // Then
+        assertFalse(result);
+    }
+
+    @Test
+    @DisplayName("Should treat tokens without an issue time as revoked")
+    void testIsRevoked_WhenIssuedAtMissing_ShouldReturnTrue() {
+        // Given
+        givenClaims("testuser", null, null);
+        jwtRevocationService.revokeUsername("testuser");
+
+        // When
+        Boolean result = jwtRevocationService.isRevoked(token);
+
+        // Then
+        assertTrue(result);
+    }
+
+    @Test
+    @DisplayName("Should revoke tokens carrying a revoked credential id")
+    void testIsRevoked_WhenCredentialIdRevoked_ShouldReturnTrue() {
+        // Given
+        givenClaims("testuser", 7, Instant.now().minusSeconds(60));
+        jwtRevocationService.revokeCredentialId(" 7 ");
+
+        // When
+        Boolean result = jwtRevocationService.isRevoked(token);
+
+        // Then
+        assertTrue(result);
+    }
+
+    @Test
+    @DisplayName("Should keep tokens of other users valid")
+    void testIsRevoked_WhenOtherUserRevoked_ShouldReturnFalse() {
+        // Given
+        givenClaims("testuser", 7, Instant.now().minusSeconds(60));
+        jwtRevocationService.revokeUsername("otheruser");
+        jwtRevocationService.revokeCredentialId("8");
+
+        // When
+        Boolean result = jwtRevocationService.isRevoked(token);
+
+        // Then
+        assertFalse(result);
+    }
+
+    private void givenClaims(final String subject, final Integer credentialId, final Instant issuedAt) {
+        final Claims claims = Jwts.claims()
+                .setSubject(subject)
+                .setIssuedAt(issuedAt == null ? null : Date.from(issuedAt));
+        if (credentialId != null)
+            claims.put(JwtUtilImpl.CREDENTIAL_ID_CLAIM, credentialId);
+        when(jwtService.extractClaims(eq(token), any())).thenReturn(claims);
+    }
+
+}
+
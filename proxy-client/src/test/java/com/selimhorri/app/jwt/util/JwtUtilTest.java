@@ -0,0 +1,100 @@
+package com.selimhorri.app.jwt.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.util.Date;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+
+@DisplayName("JwtUtil Tests")
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtilImpl(100);
+        userDetails = User.builder()
+                .username("testuser")
+                .password("password123")
+                .authorities("ROLE_USER")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should validate a generated token from the claims cache")
+    void testValidateToken_ShouldReuseCachedClaims() {
+        // Given
+        String token = jwtUtil.generateToken(userDetails);
+
+        // When
+        Claims firstClaims = jwtUtil.extractClaims(token, Function.identity());
+        Boolean isValid = jwtUtil.validateToken(token, userDetails);
+        Claims secondClaims = jwtUtil.extractClaims(token, Function.identity());
+
+        // Then
+        assertTrue(isValid);
+        assertEquals("testuser", firstClaims.getSubject());
+        assertSame(firstClaims, secondClaims, "a second parse would build a new Claims instance");
+    }
+
+    @Test
+    @DisplayName("Should still reject a forged token for a cached subject")
+    void testExtractUsername_ShouldRejectForgedToken() {
+        // Given
+        jwtUtil.extractUsername(jwtUtil.generateToken(userDetails));
+        String forgedToken = Jwts.builder()
+                .setSubject("testuser")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS256, "another-secret-key")
+                .compact();
+
+        // When & Then
+        assertThrows(SignatureException.class, () -> jwtUtil.extractUsername(forgedToken));
+    }
+
+    @Test
+    @DisplayName("Should rebuild authorities and account flags from signed claims")
+    void testExtractUserDetails_ShouldReturnEmbeddedAuthorities() {
+        // Given
+        String token = jwtUtil.generateToken(userDetails);
+
+        // When
+        UserDetails result = jwtUtil.extractUserDetails(token);
+
+        // Then
+        assertEquals("testuser", result.getUsername());
+        assertEquals("ROLE_USER", result.getAuthorities().iterator().next().getAuthority());
+        assertTrue(result.isEnabled());
+        assertTrue(result.isAccountNonLocked());
+    }
+
+    @Test
+    @DisplayName("Should return null for tokens without embedded authorities")
+    void testExtractUserDetails_WithLegacyToken_ShouldReturnNull() {
+        // Given
+        assumeTrue(System.getenv("JWT_SECRET_KEY") == null && System.getProperty("jwt.secret.key") == null);
+        String legacyToken = Jwts.builder()
+                .setSubject("testuser")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS256, "default-secret-key-change-in-production")
+                .compact();
+
+        // When & Then
+        assertNull(jwtUtil.extractUserDetails(legacyToken));
+    }
+}
@@ -1,5 +1,12 @@
 package com.selimhorri.app.client;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
@@ -7,6 +14,8 @@ import org.springframework.web.client.RestTemplate;
 import com.selimhorri.app.config.properties.AppFeatureProperties;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.commons.client.BulkLookups;
+import com.selimhorri.commons.client.SingleFlight;
 
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
@@ -23,6 +32,7 @@ public class OrderServiceClient {
 
     private final RestTemplate restTemplate;
     private final AppFeatureProperties featureProperties;
+    private final SingleFlight<Integer, OrderDto> orderFlight = new SingleFlight<>(ORDER_SERVICE_CB);
 
     @CircuitBreaker(name = ORDER_SERVICE_CB, fallbackMethod = "fallbackOrder")
     @Retry(name = ORDER_SERVICE_CB)
@@ -37,16 +47,57 @@ public class OrderServiceClient {
         }
 
         final String url = AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/" + orderId;
-        return restTemplate.getForObject(url, OrderDto.class);
+        return orderFlight.execute(orderId, () -> restTemplate.getForObject(url, OrderDto.class));
+    }
+
+    @CircuitBreaker(name = ORDER_SERVICE_CB, fallbackMethod = "fallbackOrders")
+    @Retry(name = ORDER_SERVICE_CB)
+    @Bulkhead(name = ORDER_SERVICE_CB)
+    public Map<Integer, OrderDto> fetchOrders(final Collection<Integer> orderIds) {
+        final Set<Integer> distinctIds = BulkLookups.distinctIds(orderIds);
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        if (!featureProperties.isEnrichRemoteData()) {
+            return degradedOrders(distinctIds, "enrichment-disabled");
+        }
+
+        final String url = AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/batch";
+        final Map<Integer, OrderDto> orderDtos = restTemplate.exchange(url, HttpMethod.POST,
+                new HttpEntity<>(distinctIds), new ParameterizedTypeReference<Map<Integer, OrderDto>>() {})
+                .getBody();
+        return BulkLookups.resolveAll(distinctIds, orderDtos, id -> buildFallbackOrder(id, "not-found"));
+    }
+
+    /**
+     * Placeholder answered without calling order-service, for callers that cannot make the
+     * lookup at all, such as when the enrichment executor is saturated.
+     */
+    public OrderDto degradedOrder(final Integer orderId, final String reason) {
+        return buildFallbackOrder(orderId, reason);
+    }
+
+    public Map<Integer, OrderDto> degradedOrders(final Collection<Integer> orderIds, final String reason) {
+        return BulkLookups.resolveAll(BulkLookups.distinctIds(orderIds), Map.of(), id -> buildFallbackOrder(id, reason));
     }
 
     @SuppressWarnings("unused")
     private OrderDto fallbackOrder(final Integer orderId, final Throwable throwable) {
         if (featureProperties.isEnableResilienceLogs()) {
-            log.warn("Falling back to cached order representation for id {} due to {}", orderId,
+            log.warn("Falling back to placeholder order representation for id {} due to {}", orderId,
+                    throwable == null ? "unknown error" : throwable.getMessage());
+        }
+        return degradedOrder(orderId, throwable == null ? "fallback" : throwable.getClass().getSimpleName());
+    }
+
+    @SuppressWarnings("unused")
+    private Map<Integer, OrderDto> fallbackOrders(final Collection<Integer> orderIds, final Throwable throwable) {
+        if (featureProperties.isEnableResilienceLogs()) {
+            log.warn("Falling back to placeholder order representations for ids {} due to {}", orderIds,
                     throwable == null ? "unknown error" : throwable.getMessage());
         }
-        return buildFallbackOrder(orderId, throwable == null ? "fallback" : throwable.getClass().getSimpleName());
+        return degradedOrders(orderIds, throwable == null ? "fallback" : throwable.getClass().getSimpleName());
     }
 
     private OrderDto buildFallbackOrder(final Integer orderId, final String reason) {
@@ -1,5 +1,15 @@
 package com.selimhorri.app.client;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
@@ -7,15 +17,17 @@ import org.springframework.web.client.RestTemplate;
 import com.selimhorri.app.config.properties.AppFeatureProperties;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.commons.client.BulkLookups;
+import com.selimhorri.commons.client.LastKnownGoodCache;
+import com.selimhorri.commons.client.LastKnownGoodCacheFactory;
+import com.selimhorri.commons.client.SingleFlight;
 
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class ProductServiceClient {
 
@@ -23,6 +35,15 @@ public class ProductServiceClient {
 
     private final RestTemplate restTemplate;
     private final AppFeatureProperties featureProperties;
+    private final SingleFlight<Integer, ProductDto> productFlight = new SingleFlight<>(PRODUCT_SERVICE_CB);
+    private final LastKnownGoodCache<Integer, ProductDto> lastKnownGood;
+
+    public ProductServiceClient(final RestTemplate restTemplate, final AppFeatureProperties featureProperties,
+            final LastKnownGoodCacheFactory lastKnownGoodCacheFactory) {
+        this.restTemplate = restTemplate;
+        this.featureProperties = featureProperties;
+        this.lastKnownGood = lastKnownGoodCacheFactory.create(PRODUCT_SERVICE_CB, this::getProducts);
+    }
 
     @CircuitBreaker(name = PRODUCT_SERVICE_CB, fallbackMethod = "fallbackProduct")
     @Retry(name = PRODUCT_SERVICE_CB)
@@ -36,8 +57,82 @@ public class ProductServiceClient {
             return buildFallbackProduct(productId, "enrichment-disabled");
         }
 
+        return productFlight.execute(productId, () -> revalidateProduct(productId));
+    }
+
+    @CircuitBreaker(name = PRODUCT_SERVICE_CB, fallbackMethod = "fallbackProducts")
+    @Retry(name = PRODUCT_SERVICE_CB)
+    @Bulkhead(name = PRODUCT_SERVICE_CB)
+    public Map<Integer, ProductDto> fetchProducts(final Collection<Integer> productIds) {
+        final Set<Integer> distinctIds = BulkLookups.distinctIds(productIds);
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        if (!featureProperties.isEnrichRemoteData()) {
+            return BulkLookups.resolveAll(distinctIds, Map.of(), id -> buildFallbackProduct(id, "enrichment-disabled"));
+        }
+
+        final Map<Integer, ProductDto> productDtos = getProducts(distinctIds);
+        if (productDtos != null) {
+            lastKnownGood.putAll(productDtos);
+        }
+        return BulkLookups.resolveAll(distinctIds, productDtos, id -> buildFallbackProduct(id, "not-found"));
+    }
+
+    /**
+     * Plain batch lookup, also used by the last-known-good cache to refresh entries in the
+     * background.
+     */
+    private Map<Integer, ProductDto> getProducts(final Set<Integer> productIds) {
+        final String url = AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/batch";
+        return BulkLookups.inChunks(productIds, chunk -> restTemplate.exchange(url, HttpMethod.POST,
+                new HttpEntity<>(chunk), new ParameterizedTypeReference<Map<Integer, ProductDto>>() {})
+                .getBody());
+    }
+
+    private ProductDto revalidateProduct(final Integer productId) {
+        final LastKnownGoodCache.Entry<ProductDto> entry = getProduct(productId, lastKnownGood.peek(productId).orElse(null));
+        if (entry == null) {
+            return null;
+        }
+        lastKnownGood.put(productId, entry.getValue(), entry.getEtag());
+        return entry.getValue();
+    }
+
+    /**
+     * Sends the cached etag as If-None-Match. A 304 carries no body, so confirming an
+     * unchanged product skips both the transfer and the deserialization, and the cached
+     * entry is returned as is.
+     */
+    private LastKnownGoodCache.Entry<ProductDto> getProduct(final Integer productId,
+            final LastKnownGoodCache.Entry<ProductDto> cached) {
         final String url = AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/" + productId;
-        return restTemplate.getForObject(url, ProductDto.class);
+        final HttpHeaders headers = new HttpHeaders();
+        if (cached != null && cached.getEtag() != null) {
+            headers.setIfNoneMatch(cached.getEtag());
+        }
+        final ResponseEntity<ProductDto> response = restTemplate.exchange(url, HttpMethod.GET,
+                new HttpEntity<>(headers), ProductDto.class);
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && cached != null) {
+            return cached;
+        }
+        return response.getBody() == null ? null
+                : new LastKnownGoodCache.Entry<>(response.getBody(), response.getHeaders().getETag());
+    }
+
+    /**
+     * Last-known-good product, or a placeholder, answered without calling product-service,
+     * for callers that cannot make the lookup at all, such as when the enrichment executor
+     * is saturated.
+     */
+    public ProductDto degradedProduct(final Integer productId, final String reason) {
+        return lastKnownGood.get(productId).orElseGet(() -> buildFallbackProduct(productId, reason));
+    }
+
+    public Map<Integer, ProductDto> degradedProducts(final Collection<Integer> productIds, final String reason) {
+        final Set<Integer> distinctIds = BulkLookups.distinctIds(productIds);
+        return BulkLookups.resolveAll(distinctIds, lastKnownGood.getAll(distinctIds), id -> buildFallbackProduct(id, reason));
     }
 
     @SuppressWarnings("unused")
@@ -46,7 +141,16 @@ public class ProductServiceClient {
             log.warn("Falling back to cached product representation for id {} due to {}", productId,
                     throwable == null ? "unknown error" : throwable.getMessage());
         }
-        return buildFallbackProduct(productId, throwable == null ? "fallback" : throwable.getClass().getSimpleName());
+        return degradedProduct(productId, throwable == null ? "fallback" : throwable.getClass().getSimpleName());
+    }
+
+    @SuppressWarnings("unused")
+    private Map<Integer, ProductDto> fallbackProducts(final Collection<Integer> productIds, final Throwable throwable) {
+        if (featureProperties.isEnableResilienceLogs()) {
+            log.warn("Falling back to cached product representations for ids {} due to {}", productIds,
+                    throwable == null ? "unknown error" : throwable.getMessage());
+        }
+        return degradedProducts(productIds, throwable == null ? "fallback" : throwable.getClass().getSimpleName());
     }
 
     private ProductDto buildFallbackProduct(final Integer productId, final String reason) {
@@ -0,0 +1,57 @@
+package com.selimhorri.app.config.executor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.selimhorri.app.config.properties.EnrichmentExecutorProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class EnrichmentExecutorConfig {
+	
+	private static final String METRIC_PREFIX = "shipping.enrichment.executor";
+	
+	/**
+	 * Bounded pool used to fan remote enrichment calls out. A full queue rejects the task
+	 * rather than running it on the request thread, which would take remote concurrency past
+	 * the pool size; callers answer a rejected lookup with the client fallback.
+	 */
+	@Bean(name = "enrichmentExecutor")
+	public ThreadPoolTaskExecutor enrichmentExecutor(final EnrichmentExecutorProperties properties, 
+			final MeterRegistry meterRegistry) {
+		
+		final var rejections = Counter.builder(METRIC_PREFIX + ".rejected")
+				.description("Enrichment tasks rejected because the queue was full")
+				.register(meterRegistry);
+		final var abortPolicy = new ThreadPoolExecutor.AbortPolicy();
+		
+		final var executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(properties.getPoolSize());
+		executor.setMaxPoolSize(properties.getPoolSize());
+		executor.setQueueCapacity(properties.getQueueCapacity());
+		executor.setThreadNamePrefix("enrichment-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setRejectedExecutionHandler((task, pool) -> {
+			rejections.increment();
+			abortPolicy.rejectedExecution(task, pool);
+		});
+		
+		Gauge.builder(METRIC_PREFIX + ".queue.size", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+				.description("Enrichment tasks waiting for a worker")
+				.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolTaskExecutor::getActiveCount)
+				.description("Enrichment tasks currently running")
+				.register(meterRegistry);
+		
+		return executor;
+	}
+	
+	
+	
+}
@@ -0,0 +1,19 @@
+package com.selimhorri.app.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.enrichment.executor")
+public class EnrichmentExecutorProperties {
+
+    /**
+     * Worker threads; kept equal to the downstream bulkhead size so the executor never
+     * holds more concurrent remote calls than the bulkhead would admit.
+     */
+    private int poolSize = 10;
+    private int queueCapacity = 200;
+}
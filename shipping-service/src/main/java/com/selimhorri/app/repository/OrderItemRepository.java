@@ -1,12 +1,28 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, OrderItemId> {
 	
+	/**
+	 * Served by {@code idx_order_items_order_id}; the primary key leads with product_id
+	 * and cannot narrow by order.
+	 */
+	@Query("SELECT oi FROM OrderItem oi WHERE oi.orderId = :orderId ORDER BY oi.productId")
+	List<OrderItem> findAllByOrderId(@Param("orderId") final Integer orderId);
 	
+	@Query("SELECT oi FROM OrderItem oi "
+			+ "WHERE oi.orderId > :orderId OR (oi.orderId = :orderId AND oi.productId > :productId) "
+			+ "ORDER BY oi.orderId, oi.productId")
+	List<OrderItem> findAllAfter(@Param("orderId") final Integer orderId, 
+			@Param("productId") final Integer productId, final Pageable pageable);
 	
 }
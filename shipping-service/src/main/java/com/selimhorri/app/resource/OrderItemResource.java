@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.domain.id.OrderItemId;
@@ -35,13 +36,30 @@ public class OrderItemResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderItemService.findAll()));
 	}
 	
+	@GetMapping(params = "size")
+	public ResponseEntity<DtoCollectionResponse<OrderItemDto>> findAll(
+			@RequestParam(name = "cursor", required = false) final String cursor, 
+			@RequestParam("size") final int size) {
+		log.info("*** OrderItemDto List, controller; fetch orderItems page *");
+		return ResponseEntity.ok(this.orderItemService.findAll(cursor, size));
+	}
+	
 	@GetMapping("/{orderId}/{productId}")
 	public ResponseEntity<OrderItemDto> findById(
 			@PathVariable("orderId") final String orderId, 
 			@PathVariable("productId") final String productId) {
 		log.info("*** OrderItemDto, resource; fetch orderItem by id *");
 		return ResponseEntity.ok(this.orderItemService.findById(
-				new OrderItemId(Integer.parseInt(orderId), Integer.parseInt(productId))));
+				new OrderItemId(Integer.parseInt(productId), Integer.parseInt(orderId))));
+	}
+	
+	@GetMapping("/order/{orderId}")
+	public ResponseEntity<DtoCollectionResponse<OrderItemDto>> findAllByOrderId(
+			@PathVariable("orderId") final String orderId, 
+			@RequestParam(name = "enrich", defaultValue = "true") final boolean enrich) {
+		log.info("*** OrderItemDto List, resource; fetch orderItems by order id *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderItemService
+				.findAllByOrderId(Integer.parseInt(orderId), enrich)));
 	}
 	
 	@GetMapping("/find")
@@ -76,7 +94,7 @@ public class OrderItemResource {
 			@PathVariable("orderId") final String orderId, 
 			@PathVariable("productId") final String productId) {
 		log.info("*** Boolean, resource; delete orderItem by id *");
-		this.orderItemService.deleteById(new OrderItemId(Integer.parseInt(orderId), Integer.parseInt(productId)));
+		this.orderItemService.deleteById(new OrderItemId(Integer.parseInt(productId), Integer.parseInt(orderId)));
 		return ResponseEntity.ok(true);
 	}
 	
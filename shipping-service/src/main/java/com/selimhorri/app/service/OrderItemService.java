@@ -4,11 +4,14 @@ import java.util.List;
 
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface OrderItemService {
 	
 	List<OrderItemDto> findAll();
+	DtoCollectionResponse<OrderItemDto> findAll(final String cursor, final int size);
 	OrderItemDto findById(final OrderItemId orderItemId);
+	List<OrderItemDto> findAllByOrderId(final Integer orderId, final boolean enrichRemoteData);
 	OrderItemDto save(final OrderItemDto orderItemDto);
 	OrderItemDto update(final OrderItemDto orderItemDto);
 	void deleteById(final OrderItemId orderItemId);
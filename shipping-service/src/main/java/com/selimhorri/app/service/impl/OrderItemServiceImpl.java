@@ -1,19 +1,28 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.selimhorri.app.client.OrderServiceClient;
 import com.selimhorri.app.client.ProductServiceClient;
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.OrderItemNotFoundException;
 import com.selimhorri.app.helper.OrderItemMappingHelper;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.repository.OrderItemRepository;
 import com.selimhorri.app.service.OrderItemService;
 
@@ -26,30 +35,63 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class OrderItemServiceImpl implements OrderItemService {
 	
+	private static final String CURSOR_SEPARATOR = ":";
+	private static final String ENRICHMENT_REJECTED = "enrichment-rejected";
+	
 	private final OrderItemRepository orderItemRepository;
 	private final ProductServiceClient productServiceClient;
 	private final OrderServiceClient orderServiceClient;
+	private final Executor enrichmentExecutor;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<OrderItemDto> findAll() {
 		log.info("*** OrderItemDto List, service; fetch all orderItems *");
-		return this.orderItemRepository.findAll()
+		return this.enrichRemoteData(this.orderItemRepository.findAll()
 				.stream()
 					.map(OrderItemMappingHelper::map)
-					.map(this::enrichRemoteData)
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	/**
+	 * Pages on the composite key; the cursor is the {@code orderId:productId} pair of the
+	 * last row returned.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<OrderItemDto> findAll(final String cursor, final int size) {
+		log.info("*** OrderItemDto List, service; fetch orderItems page after cursor *");
+		final OrderItemId lastSeen = parseCursor(cursor);
+		return PageRequestHelper.keysetResponse(this.enrichRemoteData(this.orderItemRepository
+				.findAllAfter(lastSeen.getOrderId(), lastSeen.getProductId(), PageRequestHelper.keysetPage(size))
+				.stream()
+					.map(OrderItemMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList())), size, 
+				orderItemDto -> orderItemDto.getOrderId() + CURSOR_SEPARATOR + orderItemDto.getProductId());
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public OrderItemDto findById(final OrderItemId orderItemId) {
 		log.info("*** OrderItemDto, service; fetch orderItem by id *");
-		return this.orderItemRepository.findById(null)
+		return this.orderItemRepository.findById(orderItemId)
 				.map(OrderItemMappingHelper::map)
 				.map(this::enrichRemoteData)
 				.orElseThrow(() -> new OrderItemNotFoundException(String.format("OrderItem with id: %s not found", orderItemId)));
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public List<OrderItemDto> findAllByOrderId(final Integer orderId, final boolean enrichRemoteData) {
+		log.info("*** OrderItemDto List, service; fetch orderItems by order id *");
+		final List<OrderItemDto> orderItemDtos = this.orderItemRepository.findAllByOrderId(orderId)
+				.stream()
+					.map(OrderItemMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+		return enrichRemoteData ? this.enrichRemoteData(orderItemDtos) : orderItemDtos;
+	}
+	
 	@Override
 	public OrderItemDto save(final OrderItemDto orderItemDto) {
 		log.info("*** OrderItemDto, service; save orderItem *");
@@ -70,21 +112,101 @@ public class OrderItemServiceImpl implements OrderItemService {
 		this.orderItemRepository.deleteById(orderItemId);
 	}
 
+	private static OrderItemId parseCursor(final String cursor) {
+		if (cursor == null || cursor.isBlank())
+			return new OrderItemId(0, 0);
+		final String[] parts = cursor.split(CURSOR_SEPARATOR);
+		final String errorMsg = String.format("Invalid orderItem cursor: %s", cursor);
+		if (parts.length != 2)
+			throw new IllegalStateException(errorMsg);
+		try {
+			return new OrderItemId(Integer.parseInt(parts[1].strip()), Integer.parseInt(parts[0].strip()));
+		}
+		catch (final NumberFormatException e) {
+			throw new IllegalStateException(errorMsg);
+		}
+	}
+	
 	private OrderItemDto enrichRemoteData(final OrderItemDto orderItemDto) {
 		final ProductDto productDto = orderItemDto.getProductDto();
 		final OrderDto orderDto = orderItemDto.getOrderDto();
-
+		
+		final CompletableFuture<ProductDto> productFuture = productDto == null 
+				? CompletableFuture.completedFuture(null)
+				: this.supplyEnrichment(() -> this.productServiceClient.fetchProduct(productDto.getProductId()), 
+						rejected -> this.productServiceClient.degradedProduct(productDto.getProductId(), ENRICHMENT_REJECTED));
+		final CompletableFuture<OrderDto> orderFuture = orderDto == null 
+				? CompletableFuture.completedFuture(null)
+				: this.supplyEnrichment(() -> this.orderServiceClient.fetchOrder(orderDto.getOrderId()), 
+						rejected -> this.orderServiceClient.degradedOrder(orderDto.getOrderId(), ENRICHMENT_REJECTED));
+		
 		if (productDto != null) {
-			orderItemDto.setProductDto(this.productServiceClient.fetchProduct(productDto.getProductId()));
+			orderItemDto.setProductDto(productFuture.join());
 		}
-
+		
 		if (orderDto != null) {
-			orderItemDto.setOrderDto(this.orderServiceClient.fetchOrder(orderDto.getOrderId()));
+			orderItemDto.setOrderDto(orderFuture.join());
 		}
-
+		
 		return orderItemDto;
 	}
 	
+	/**
+	 * Resolves the products and the orders of all rows with one bulk call each, run side by
+	 * side on the bounded enrichment executor, so a list costs two remote calls whatever the
+	 * number of distinct orders.
+	 */
+	private List<OrderItemDto> enrichRemoteData(final List<OrderItemDto> orderItemDtos) {
+		final Set<Integer> productIds = orderItemDtos.stream()
+				.map(OrderItemDto::getProductDto)
+				.filter(Objects::nonNull)
+				.map(ProductDto::getProductId)
+				.collect(Collectors.toSet());
+		final Set<Integer> orderIds = orderItemDtos.stream()
+				.map(OrderItemDto::getOrderDto)
+				.filter(Objects::nonNull)
+				.map(OrderDto::getOrderId)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		
+		final CompletableFuture<Map<Integer, ProductDto>> productsFuture = this.supplyEnrichment(
+				() -> this.productServiceClient.fetchProducts(productIds), 
+				rejected -> this.productServiceClient.degradedProducts(productIds, ENRICHMENT_REJECTED));
+		final CompletableFuture<Map<Integer, OrderDto>> ordersFuture = this.supplyEnrichment(
+				() -> this.orderServiceClient.fetchOrders(orderIds), 
+				rejected -> this.orderServiceClient.degradedOrders(orderIds, ENRICHMENT_REJECTED));
+		
+		final Map<Integer, ProductDto> productDtos = productsFuture.join();
+		final Map<Integer, OrderDto> orderDtos = ordersFuture.join();
+		orderItemDtos.forEach(orderItemDto -> {
+			final ProductDto productDto = orderItemDto.getProductDto();
+			final OrderDto orderDto = orderItemDto.getOrderDto();
+			
+			if (productDto != null && productDto.getProductId() != null) {
+				orderItemDto.setProductDto(productDtos.get(productDto.getProductId()));
+			}
+			
+			if (orderDto != null && orderDto.getOrderId() != null) {
+				orderItemDto.setOrderDto(orderDtos.get(orderDto.getOrderId()));
+			}
+		});
+		return orderItemDtos;
+	}
+	
+	/**
+	 * Runs a lookup on the enrichment executor, or answers it with the fallback right away
+	 * when the executor is saturated.
+	 */
+	private <T> CompletableFuture<T> supplyEnrichment(final Supplier<T> lookup, 
+			final Function<RejectedExecutionException, T> fallback) {
+		try {
+			return CompletableFuture.supplyAsync(lookup, this.enrichmentExecutor);
+		}
+		catch (final RejectedExecutionException e) {
+			return CompletableFuture.completedFuture(fallback.apply(e));
+		}
+	}
+	
 	
 	
 }
@@ -0,0 +1,3 @@
+
+CREATE INDEX idx_order_items_order_id ON order_items (order_id, product_id);
+
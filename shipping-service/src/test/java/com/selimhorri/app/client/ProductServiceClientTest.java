@@ -4,17 +4,33 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.config.properties.AppFeatureProperties;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.commons.client.LastKnownGoodCacheFactory;
+import com.selimhorri.commons.config.properties.LastKnownGoodProperties;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ProductServiceClient Tests")
@@ -26,7 +42,6 @@ class ProductServiceClientTest {
     @Mock
     private AppFeatureProperties featureProperties;
 
-    @InjectMocks
     private ProductServiceClient productServiceClient;
 
     private ProductDto productDto;
@@ -34,6 +49,8 @@ class ProductServiceClientTest {
 
     @BeforeEach
     void setUp() {
+        productServiceClient = new ProductServiceClient(restTemplate, featureProperties,
+                new LastKnownGoodCacheFactory(new LastKnownGoodProperties(), CircuitBreakerRegistry.ofDefaults()));
         productId = 1;
         productDto = ProductDto.builder()
                 .productId(productId)
@@ -47,7 +64,8 @@ class ProductServiceClientTest {
     void testFetchProduct_WithEnrichmentEnabled_ShouldReturnProduct() {
         // Given
         when(featureProperties.isEnrichRemoteData()).thenReturn(true);
-        when(restTemplate.getForObject(anyString(), eq(ProductDto.class))).thenReturn(productDto);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(ProductDto.class)))
+                .thenReturn(ResponseEntity.ok(productDto));
 
         // When
         ProductDto result = productServiceClient.fetchProduct(productId);
@@ -56,7 +74,7 @@ class ProductServiceClientTest {
         assertNotNull(result);
         assertEquals(productId, result.getProductId());
         verify(featureProperties).isEnrichRemoteData();
-        verify(restTemplate).getForObject(anyString(), eq(ProductDto.class));
+        verify(restTemplate).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(ProductDto.class));
     }
 
     @Test
@@ -73,7 +91,7 @@ class ProductServiceClientTest {
         assertEquals(productId, result.getProductId());
         assertTrue(result.getProductTitle().contains("enrichment-disabled"));
         verify(featureProperties).isEnrichRemoteData();
-        verify(restTemplate, never()).getForObject(anyString(), any());
+        verify(restTemplate, never()).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(ProductDto.class));
     }
 
     @Test
@@ -86,7 +104,126 @@ class ProductServiceClientTest {
         assertNotNull(result);
         assertNull(result.getProductId());
         assertTrue(result.getProductTitle().contains("missing-product-id"));
-        verify(restTemplate, never()).getForObject(anyString(), any());
+        verify(restTemplate, never()).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(ProductDto.class));
     }
-}
 
+    @Test
+    @DisplayName("Should revalidate a cached product with its etag and keep it on 304")
+    void testFetchProduct_WithCachedEtag_ShouldSendIfNoneMatchAndReuseOnNotModified() {
+        // Given
+        when(featureProperties.isEnrichRemoteData()).thenReturn(true);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(ProductDto.class)))
+                .thenReturn(ResponseEntity.ok().eTag("\"v1\"").body(productDto))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("\"v1\"").build());
+        productServiceClient.fetchProduct(productId);
+
+        // When
+        ProductDto result = productServiceClient.fetchProduct(productId);
+
+        // Then
+        assertEquals("Test Product", result.getProductTitle());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<HttpEntity<?>> requests = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), requests.capture(), eq(ProductDto.class));
+        assertNull(requests.getAllValues().get(0).getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals("\"v1\"", requests.getAllValues().get(1).getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    @DisplayName("Should keep the cached etag when a batch response returns the same product")
+    void testFetchProducts_WithUnchangedCachedProduct_ShouldKeepEtagForRevalidation() {
+        // Given
+        when(featureProperties.isEnrichRemoteData()).thenReturn(true);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(ProductDto.class)))
+                .thenReturn(ResponseEntity.ok().eTag("\"v1\"").body(productDto))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("\"v1\"").build());
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class),
+                ArgumentMatchers.<ParameterizedTypeReference<Map<Integer, ProductDto>>>any()))
+                .thenReturn(ResponseEntity.ok(Map.of(productId, ProductDto.builder()
+                        .productId(productId)
+                        .productTitle("Test Product")
+                        .priceUnit(99.99)
+                        .build())));
+        productServiceClient.fetchProduct(productId);
+        productServiceClient.fetchProducts(List.of(productId));
+
+        // When
+        ProductDto result = productServiceClient.fetchProduct(productId);
+
+        // Then
+        assertEquals("Test Product", result.getProductTitle());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<HttpEntity<?>> requests = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), requests.capture(), eq(ProductDto.class));
+        assertEquals("\"v1\"", requests.getAllValues().get(1).getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH));
+    }
+
+    @Test
+    @DisplayName("Should resolve distinct product ids with a single batch request")
+    void testFetchProducts_WithEnrichmentEnabled_ShouldIssueOneBatchRequest() {
+        // Given
+        when(featureProperties.isEnrichRemoteData()).thenReturn(true);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class),
+                ArgumentMatchers.<ParameterizedTypeReference<Map<Integer, ProductDto>>>any()))
+                .thenReturn(ResponseEntity.ok(Map.of(productId, productDto)));
+
+        // When
+        Map<Integer, ProductDto> result = productServiceClient.fetchProducts(List.of(productId, productId, 2));
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals("Test Product", result.get(productId).getProductTitle());
+        assertTrue(result.get(2).getProductTitle().contains("not-found"));
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class),
+                ArgumentMatchers.<ParameterizedTypeReference<Map<Integer, ProductDto>>>any());
+    }
+
+    @Test
+    @DisplayName("Should not call product-service when there are no product ids")
+    void testFetchProducts_WithNoIds_ShouldReturnEmptyMap() {
+        // When
+        Map<Integer, ProductDto> result = productServiceClient.fetchProducts(List.of());
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    @DisplayName("Should serve the last successfully fetched product from the fallback")
+    void testFallbackProduct_AfterSuccessfulFetch_ShouldReturnLastKnownGood() {
+        // Given
+        when(featureProperties.isEnrichRemoteData()).thenReturn(true);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(ProductDto.class)))
+                .thenReturn(ResponseEntity.ok(productDto));
+        productServiceClient.fetchProduct(productId);
+
+        // When
+        ProductDto result = ReflectionTestUtils.invokeMethod(productServiceClient, "fallbackProduct",
+                productId, new ResourceAccessException("product-service down"));
+
+        // Then
+        assertNotNull(result);
+        assertEquals("Test Product", result.getProductTitle());
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(ProductDto.class));
+    }
+
+    @Test
+    @DisplayName("Should fall back to a placeholder for products never fetched successfully")
+    void testFallbackProducts_WithUnknownIds_ShouldMixLastKnownGoodAndPlaceholders() {
+        // Given
+        when(featureProperties.isEnrichRemoteData()).thenReturn(true);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(ProductDto.class)))
+                .thenReturn(ResponseEntity.ok(productDto));
+        productServiceClient.fetchProduct(productId);
+
+        // When
+        Map<Integer, ProductDto> result = ReflectionTestUtils.invokeMethod(productServiceClient, "fallbackProducts",
+                List.of(productId, 2), new ResourceAccessException("product-service down"));
+
+        // Then
+        assertNotNull(result);
+        assertEquals("Test Product", result.get(productId).getProductTitle());
+        assertTrue(result.get(2).getProductTitle().contains("ResourceAccessException"));
+    }
+}
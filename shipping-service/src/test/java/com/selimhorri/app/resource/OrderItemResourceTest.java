@@ -99,6 +99,33 @@ class OrderItemResourceTest {
         verify(orderItemService).findById(any(OrderItemId.class));
     }
 
+    @Test
+    void testFindById_ShouldMapPathVariablesOntoCompositeId() throws Exception {
+        // Given
+        when(orderItemService.findById(any(OrderItemId.class))).thenReturn(testOrderItemDto);
+
+        // When & Then
+        mockMvc.perform(get("/api/shippings/{orderId}/{productId}", "1", "2"))
+                .andExpect(status().isOk());
+
+        verify(orderItemService).findById(new OrderItemId(2, 1));
+    }
+
+    @Test
+    void testFindAllByOrderId_ShouldReturnItemsOfOrder() throws Exception {
+        // Given
+        when(orderItemService.findAllByOrderId(1, true)).thenReturn(List.of(testOrderItemDto));
+
+        // When & Then
+        mockMvc.perform(get("/api/shippings/order/{orderId}", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.collection").isArray())
+                .andExpect(jsonPath("$.collection[0].orderId").value(1));
+
+        verify(orderItemService).findAllByOrderId(1, true);
+        verify(orderItemService, never()).findAll();
+    }
+
     @Test
     void testSave_ShouldCreateOrderItem() throws Exception {
         // Given
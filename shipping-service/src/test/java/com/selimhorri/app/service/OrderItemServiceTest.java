@@ -7,14 +7,20 @@ import static org.mockito.Mockito.*;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.Pageable;
 import com.selimhorri.app.client.OrderServiceClient;
 import com.selimhorri.app.client.ProductServiceClient;
 import com.selimhorri.app.domain.OrderItem;
@@ -22,6 +28,7 @@ import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.OrderItemNotFoundException;
 import com.selimhorri.app.repository.OrderItemRepository;
 import com.selimhorri.app.service.impl.OrderItemServiceImpl;
@@ -38,6 +45,9 @@ class OrderItemServiceTest {
     @Mock
     private OrderServiceClient orderServiceClient;
 
+    @Spy
+    private SyncTaskExecutor enrichmentExecutor;
+
     @InjectMocks
     private OrderItemServiceImpl orderItemService;
 
@@ -98,6 +108,102 @@ class OrderItemServiceTest {
         verify(orderItemRepository).findAll();
     }
 
+    @Test
+    void testFindAll_ShouldFetchOrdersAndProductsInBulk() {
+        // Given
+        List<OrderItem> orderItems = Arrays.asList(
+                OrderItem.builder().productId(1).orderId(1).orderedQuantity(2).build(),
+                OrderItem.builder().productId(2).orderId(1).orderedQuantity(1).build());
+        when(orderItemRepository.findAll()).thenReturn(orderItems);
+        when(productServiceClient.fetchProducts(anyCollection())).thenReturn(Map.of(1, testProductDto));
+        when(orderServiceClient.fetchOrders(anyCollection())).thenReturn(Map.of(1, testOrderDto));
+
+        // When
+        List<OrderItemDto> result = orderItemService.findAll();
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(testOrderDto, result.get(0).getOrderDto());
+        assertEquals(testOrderDto, result.get(1).getOrderDto());
+        assertEquals(testProductDto, result.get(0).getProductDto());
+        verify(orderServiceClient, times(1)).fetchOrders(Set.of(1));
+        verify(orderServiceClient, never()).fetchOrder(anyInt());
+        verify(productServiceClient, times(1)).fetchProducts(anyCollection());
+        verify(enrichmentExecutor, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void testFindAll_WhenExecutorIsSaturated_ShouldAnswerWithClientFallbacks() {
+        // Given
+        OrderItemServiceImpl saturatedService = new OrderItemServiceImpl(orderItemRepository, productServiceClient,
+                orderServiceClient, task -> {
+                    throw new RejectedExecutionException("queue full");
+                });
+        OrderDto fallbackOrder = OrderDto.builder().orderId(1).orderDesc("Order unavailable").build();
+        when(orderItemRepository.findAll()).thenReturn(List.of(testOrderItem));
+        when(productServiceClient.degradedProducts(anyCollection(), anyString())).thenReturn(Map.of(1, testProductDto));
+        when(orderServiceClient.degradedOrders(anyCollection(), anyString())).thenReturn(Map.of(1, fallbackOrder));
+
+        // When
+        List<OrderItemDto> result = saturatedService.findAll();
+
+        // Then
+        assertEquals(fallbackOrder, result.get(0).getOrderDto());
+        assertEquals(testProductDto, result.get(0).getProductDto());
+        verify(productServiceClient, never()).fetchProducts(anyCollection());
+        verify(orderServiceClient, never()).fetchOrders(anyCollection());
+    }
+
+    @Test
+    void testFindAllByOrderId_ShouldResolveProductsInOneBulkCall() {
+        // Given
+        when(orderItemRepository.findAllByOrderId(1)).thenReturn(Arrays.asList(
+                OrderItem.builder().productId(1).orderId(1).orderedQuantity(2).build(),
+                OrderItem.builder().productId(2).orderId(1).orderedQuantity(1).build()));
+        when(productServiceClient.fetchProducts(anyCollection())).thenReturn(Map.of(1, testProductDto));
+        when(orderServiceClient.fetchOrders(anyCollection())).thenReturn(Map.of(1, testOrderDto));
+
+        // When
+        List<OrderItemDto> result = orderItemService.findAllByOrderId(1, true);
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(testProductDto, result.get(0).getProductDto());
+        verify(orderItemRepository, never()).findAll();
+        verify(productServiceClient, times(1)).fetchProducts(anyCollection());
+        verify(productServiceClient, never()).fetchProduct(anyInt());
+        verify(orderServiceClient, times(1)).fetchOrders(Set.of(1));
+    }
+
+    @Test
+    void testFindAllByOrderId_WithoutEnrichment_ShouldNotCallRemoteServices() {
+        // Given
+        when(orderItemRepository.findAllByOrderId(1)).thenReturn(Arrays.asList(
+                OrderItem.builder().productId(1).orderId(1).orderedQuantity(2).build()));
+
+        // When
+        List<OrderItemDto> result = orderItemService.findAllByOrderId(1, false);
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(1, result.get(0).getProductId());
+        verifyNoInteractions(productServiceClient, orderServiceClient);
+    }
+
+    @Test
+    void testFindById_ShouldLookUpByCompositeId() {
+        // Given
+        OrderItemId orderItemId = new OrderItemId(1, 1);
+        when(orderItemRepository.findById(orderItemId)).thenReturn(Optional.of(testOrderItem));
+
+        // When
+        OrderItemDto result = orderItemService.findById(orderItemId);
+
+        // Then
+        assertEquals(Integer.valueOf(2), result.getOrderedQuantity());
+        verify(orderItemRepository).findById(orderItemId);
+    }
+
     @Test
     void testSave_ShouldReturnSavedOrderItem() {
         // Given
@@ -200,6 +306,8 @@ class OrderItemServiceTest {
         // Given
         List<OrderItem> orderItems = Arrays.asList(testOrderItem);
         when(orderItemRepository.findAll()).thenReturn(orderItems);
+        when(productServiceClient.fetchProducts(anyCollection())).thenReturn(Map.of(1, testProductDto));
+        when(orderServiceClient.fetchOrders(anyCollection())).thenReturn(Map.of(1, testOrderDto));
 
         // When
         List<OrderItemDto> result = orderItemService.findAll();
@@ -209,7 +317,33 @@ class OrderItemServiceTest {
         assertEquals(1, result.size());
         assertNotNull(result.get(0).getProductDto());
         assertNotNull(result.get(0).getOrderDto());
-        verify(productServiceClient, times(1)).fetchProduct(anyInt());
-        verify(orderServiceClient, times(1)).fetchOrder(anyInt());
+        verify(productServiceClient, times(1)).fetchProducts(anyCollection());
+        verify(orderServiceClient, times(1)).fetchOrders(anyCollection());
+    }
+
+    @Test
+    void testFindAllPage_ShouldResumeAfterCompositeCursor() {
+        // Given
+        OrderItem nextOrderItem = OrderItem.builder()
+                .productId(3)
+                .orderId(1)
+                .orderedQuantity(1)
+                .build();
+        when(orderItemRepository.findAllAfter(eq(1), eq(0), any(Pageable.class)))
+                .thenReturn(List.of(testOrderItem, nextOrderItem));
+
+        // When
+        DtoCollectionResponse<OrderItemDto> result = orderItemService.findAll("1:0", 1);
+
+        // Then
+        assertEquals(1, result.getCollection().size());
+        assertEquals("1:1", result.getNextCursor());
+    }
+
+    @Test
+    void testFindAllPage_ShouldRejectMalformedCursor() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> orderItemService.findAll("not-a-cursor", 10));
+        verifyNoInteractions(orderItemRepository);
     }
 }
\ No newline at end of file
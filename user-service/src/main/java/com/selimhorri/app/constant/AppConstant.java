@@ -11,6 +11,14 @@ public abstract class AppConstant {
 	public static final String ZONED_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String INSTANT_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	
+	public static final String ID_ALLOCATION_SIZE = "50";
+	
+	/**
+	 * Most ids one POST /batch lookup accepts, so a single request cannot turn into an
+	 * unbounded IN list and response.
+	 */
+	public static final int MAX_BATCH_SIZE = 100;
+	
 	@NoArgsConstructor(access = AccessLevel.PRIVATE)
 	public abstract class DiscoveredDomainsApi {
 		
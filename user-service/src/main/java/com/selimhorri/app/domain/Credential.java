@@ -17,7 +17,11 @@ import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.selimhorri.app.constant.AppConstant;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -37,7 +41,13 @@ public final class Credential extends AbstractMappedEntity implements Serializab
 	private static final long serialVersionUID = 1L;
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credentials_seq")
+	@GenericGenerator(name = "credentials_seq", strategy = "enhanced-sequence", parameters = {
+		@Parameter(name = "sequence_name", value = "credentials_seq"),
+		@Parameter(name = "force_table_use", value = "true"),
+		@Parameter(name = "optimizer", value = "pooled-lo"),
+		@Parameter(name = "increment_size", value = AppConstant.ID_ALLOCATION_SIZE)
+	})
 	@Column(name = "credential_id", unique = true, nullable = false, updatable = false)
 	private Integer credentialId;
 	
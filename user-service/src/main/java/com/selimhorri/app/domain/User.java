@@ -15,7 +15,11 @@ import javax.persistence.OneToOne;
 import javax.persistence.Table;
 import javax.validation.constraints.Email;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.selimhorri.app.constant.AppConstant;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -35,7 +39,13 @@ public final class User extends AbstractMappedEntity implements Serializable {
 	private static final long serialVersionUID = 1L;
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+	@GenericGenerator(name = "users_seq", strategy = "enhanced-sequence", parameters = {
+		@Parameter(name = "sequence_name", value = "users_seq"),
+		@Parameter(name = "force_table_use", value = "true"),
+		@Parameter(name = "optimizer", value = "pooled-lo"),
+		@Parameter(name = "increment_size", value = AppConstant.ID_ALLOCATION_SIZE)
+	})
 	@Column(name = "user_id", unique = true, nullable = false, updatable = false)
 	private Integer userId;
 	
@@ -1,8 +1,13 @@
 package com.selimhorri.app.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.User;
 
@@ -10,4 +15,10 @@ public interface UserRepository extends JpaRepository<User, Integer> {
 	
 	Optional<User> findByCredentialUsername(final String username);
 	
+	@Query("SELECT u FROM User u LEFT JOIN FETCH u.credential WHERE u.userId IN :userIds")
+	List<User> findAllByUserIdIn(@Param("userIds") final Collection<Integer> userIds);
+	
+	@Query("SELECT u FROM User u LEFT JOIN FETCH u.credential WHERE u.userId > :cursor ORDER BY u.userId")
+	List<User> findAllByUserIdGreaterThan(@Param("cursor") final Integer cursor, final Pageable pageable);
+	
 }
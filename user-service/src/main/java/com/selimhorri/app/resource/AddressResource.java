@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.AddressDto;
@@ -35,6 +36,14 @@ public class AddressResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.addressService.findAll()));
 	}
 	
+	@GetMapping(params = "size")
+	public ResponseEntity<DtoCollectionResponse<AddressDto>> findAll(
+			@RequestParam(name = "page", defaultValue = "0") final int page, 
+			@RequestParam("size") final int size) {
+		log.info("*** AddressDto List, controller; fetch addresses page *");
+		return ResponseEntity.ok(this.addressService.findAll(page, size));
+	}
+	
 	@GetMapping("/{addressId}")
 	public ResponseEntity<AddressDto> findById(
 			@PathVariable("addressId") 
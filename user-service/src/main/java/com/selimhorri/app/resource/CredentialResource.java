@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.CredentialDto;
@@ -35,6 +36,14 @@ public class CredentialResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.credentialService.findAll()));
 	}
 	
+	@GetMapping(params = "size")
+	public ResponseEntity<DtoCollectionResponse<CredentialDto>> findAll(
+			@RequestParam(name = "page", defaultValue = "0") final int page, 
+			@RequestParam("size") final int size) {
+		log.info("*** CredentialDto List, controller; fetch credentials page *");
+		return ResponseEntity.ok(this.credentialService.findAll(page, size));
+	}
+	
 	@GetMapping("/{credentialId}")
 	public ResponseEntity<CredentialDto> findById(
 			@PathVariable("credentialId") 
@@ -1,10 +1,15 @@
 package com.selimhorri.app.resource;
 
+import java.util.List;
+import java.util.Map;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,8 +17,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.UserDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.UserService;
@@ -23,6 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 
 @RestController
 @RequestMapping(value = {"/api/users"})
+@Validated
 @Slf4j
 @RequiredArgsConstructor
 public class UserResource {
@@ -35,6 +43,14 @@ public class UserResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.userService.findAll()));
 	}
 	
+	@GetMapping(params = "size")
+	public ResponseEntity<DtoCollectionResponse<UserDto>> findAll(
+			@RequestParam(name = "cursor", required = false) final Integer cursor, 
+			@RequestParam("size") final int size) {
+		log.info("*** UserDto List, controller; fetch users page *");
+		return ResponseEntity.ok(this.userService.findAll(cursor, size));
+	}
+	
 	@GetMapping("/{userId}")
 	public ResponseEntity<UserDto> findById(
 			@PathVariable("userId") 
@@ -44,6 +60,16 @@ public class UserResource {
 		return ResponseEntity.ok(this.userService.findById(Integer.parseInt(userId.strip())));
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<Map<Integer, UserDto>> findAllByIds(
+			@RequestBody 
+			@NotNull(message = "Input must not NULL") 
+			@Size(max = AppConstant.MAX_BATCH_SIZE, message = "At most " + AppConstant.MAX_BATCH_SIZE + " ids per batch") 
+			@Valid final List<Integer> userIds) {
+		log.info("*** UserDto Map, resource; fetch users by ids *");
+		return ResponseEntity.ok(this.userService.findAllByIds(userIds));
+	}
+	
 	@PostMapping
 	public ResponseEntity<UserDto> save(
 			@RequestBody 
@@ -3,10 +3,12 @@ package com.selimhorri.app.service;
 import java.util.List;
 
 import com.selimhorri.app.dto.AddressDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface AddressService {
 	
 	List<AddressDto> findAll();
+	DtoCollectionResponse<AddressDto> findAll(final int page, final int size);
 	AddressDto findById(final Integer addressId);
 	AddressDto save(final AddressDto addressDto);
 	AddressDto update(final AddressDto addressDto);
@@ -3,10 +3,12 @@ package com.selimhorri.app.service;
 import java.util.List;
 
 import com.selimhorri.app.dto.CredentialDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface CredentialService {
 	
 	List<CredentialDto> findAll();
+	DtoCollectionResponse<CredentialDto> findAll(final int page, final int size);
 	CredentialDto findById(final Integer credentialId);
 	CredentialDto save(final CredentialDto credentialDto);
 	CredentialDto update(final CredentialDto credentialDto);
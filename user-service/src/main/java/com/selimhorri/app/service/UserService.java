@@ -1,13 +1,18 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface UserService {
 	
 	List<UserDto> findAll();
+	DtoCollectionResponse<UserDto> findAll(final Integer cursor, final int size);
 	UserDto findById(final Integer userId);
+	Map<Integer, UserDto> findAllByIds(final Collection<Integer> userIds);
 	UserDto save(final UserDto userDto);
 	UserDto update(final UserDto userDto);
 	UserDto update(final Integer userId, final UserDto userDto);
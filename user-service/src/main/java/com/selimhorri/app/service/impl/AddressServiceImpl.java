@@ -3,13 +3,15 @@ package com.selimhorri.app.service.impl;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.selimhorri.app.dto.AddressDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.AddressNotFoundException;
 import com.selimhorri.app.helper.AddressMappingHelper;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.repository.AddressRepository;
 import com.selimhorri.app.service.AddressService;
 
@@ -25,6 +27,7 @@ public class AddressServiceImpl implements AddressService {
 	private final AddressRepository addressRepository;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<AddressDto> findAll() {
 		log.info("*** AddressDto List, service; fetch all addresss *");
 		return this.addressRepository.findAll()
@@ -35,6 +38,16 @@ public class AddressServiceImpl implements AddressService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<AddressDto> findAll(final int page, final int size) {
+		log.info("*** AddressDto List, service; fetch addresses page *");
+		return PageRequestHelper.offsetResponse(this.addressRepository
+				.findAll(PageRequestHelper.offsetPage(page, size, Sort.by("addressId")))
+				.map(AddressMappingHelper::map));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
 	public AddressDto findById(final Integer addressId) {
 		log.info("*** AddressDto, service; fetch address by id *");
 		return this.addressRepository.findById(addressId)
@@ -3,14 +3,16 @@ package com.selimhorri.app.service.impl;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.selimhorri.app.dto.CredentialDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.helper.CredentialMappingHelper;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.repository.CredentialRepository;
 import com.selimhorri.app.service.CredentialService;
 
@@ -26,6 +28,7 @@ public class CredentialServiceImpl implements CredentialService {
 	private final CredentialRepository credentialRepository;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<CredentialDto> findAll() {
 		log.info("*** CredentialDto List, service; fetch all credentials *");
 		return this.credentialRepository.findAll()
@@ -36,6 +39,16 @@ public class CredentialServiceImpl implements CredentialService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<CredentialDto> findAll(final int page, final int size) {
+		log.info("*** CredentialDto List, service; fetch credentials page *");
+		return PageRequestHelper.offsetResponse(this.credentialRepository
+				.findAll(PageRequestHelper.offsetPage(page, size, Sort.by("credentialId")))
+				.map(CredentialMappingHelper::map));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
 	public CredentialDto findById(final Integer credentialId) {
 		log.info("*** CredentialDto, service; fetch credential by ids *");
 		return this.credentialRepository.findById(credentialId)
@@ -69,6 +82,7 @@ public class CredentialServiceImpl implements CredentialService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public CredentialDto findByUsername(final String username) {
 		return CredentialMappingHelper.map(this.credentialRepository.findByUsername(username)
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("#### Credential with username: %s not found! ####", username))));
@@ -1,14 +1,19 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.helper.UserMappingHelper;
 import com.selimhorri.app.repository.UserRepository;
 import com.selimhorri.app.service.UserService;
@@ -25,6 +30,7 @@ public class UserServiceImpl implements UserService {
 	private final UserRepository userRepository;
 	
 	@Override
+	@Transactional(readOnly = true)
 	public List<UserDto> findAll() {
 		log.info("*** UserDto List, service; fetch all users *");
 		return this.userRepository.findAll()
@@ -35,6 +41,18 @@ public class UserServiceImpl implements UserService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<UserDto> findAll(final Integer cursor, final int size) {
+		log.info("*** UserDto List, service; fetch users page after cursor *");
+		return PageRequestHelper.keysetResponse(this.userRepository
+				.findAllByUserIdGreaterThan(cursor == null ? 0 : cursor, PageRequestHelper.keysetPage(size))
+				.stream()
+					.map(UserMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), size, UserDto::getUserId);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
 	public UserDto findById(final Integer userId) {
 		log.info("*** UserDto, service; fetch user by id *");
 		return this.userRepository.findById(userId)
@@ -42,6 +60,21 @@ public class UserServiceImpl implements UserService {
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("User with id: %d not found", userId)));
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Integer, UserDto> findAllByIds(final Collection<Integer> userIds) {
+		log.info("*** UserDto Map, service; fetch users by ids *");
+		final var distinctIds = userIds.stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet());
+		if (distinctIds.isEmpty())
+			return Map.of();
+		return this.userRepository.findAllByUserIdIn(distinctIds)
+				.stream()
+					.map(UserMappingHelper::map)
+					.collect(Collectors.toUnmodifiableMap(UserDto::getUserId, Function.identity()));
+	}
+	
 	@Override
 	public UserDto save(final UserDto userDto) {
 		log.info("*** UserDto, service; save user *");
@@ -68,6 +101,7 @@ public class UserServiceImpl implements UserService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public UserDto findByUsername(final String username) {
 		log.info("*** UserDto, service; fetch user with username *");
 		return UserMappingHelper.map(this.userRepository.findByCredentialUsername(username)
@@ -0,0 +1,8 @@
+
+CREATE TABLE users_seq (
+	next_val BIGINT NOT NULL
+);
+
+INSERT INTO users_seq (next_val)
+SELECT COALESCE(MAX(user_id), 0) + 1 FROM users;
+
@@ -0,0 +1,8 @@
+
+CREATE TABLE address_seq (
+	next_val BIGINT NOT NULL
+);
+
+INSERT INTO address_seq (next_val)
+SELECT COALESCE(MAX(address_id), 0) + 1 FROM address;
+
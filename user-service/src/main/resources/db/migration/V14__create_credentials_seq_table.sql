@@ -0,0 +1,8 @@
+
+CREATE TABLE credentials_seq (
+	next_val BIGINT NOT NULL
+);
+
+INSERT INTO credentials_seq (next_val)
+SELECT COALESCE(MAX(credential_id), 0) + 1 FROM credentials;
+
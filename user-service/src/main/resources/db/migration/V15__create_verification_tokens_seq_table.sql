@@ -0,0 +1,8 @@
+
+CREATE TABLE verification_tokens_seq (
+	next_val BIGINT NOT NULL
+);
+
+INSERT INTO verification_tokens_seq (next_val)
+SELECT COALESCE(MAX(verification_token_id), 0) + 1 FROM verification_tokens;
+
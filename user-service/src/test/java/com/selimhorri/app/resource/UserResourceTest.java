@@ -7,6 +7,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +20,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.UserDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.UserService;
@@ -79,6 +83,38 @@ class UserResourceTest {
         verify(userService).findById(userId);
     }
 
+    @Test
+    void testFindAllByIds_WhenBatchExceedsMaxSize_ShouldReturnBadRequest() throws Exception {
+        // Given
+        List<Integer> ids = IntStream.rangeClosed(1, AppConstant.MAX_BATCH_SIZE + 1)
+                .boxed()
+                .collect(Collectors.toList());
+
+        // When & Then
+        mockMvc.perform(post("/api/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).findAllByIds(anyList());
+    }
+
+    @Test
+    void testFindAllByIds_ShouldReturnUsersKeyedById() throws Exception {
+        // Given
+        when(userService.findAllByIds(anyList())).thenReturn(Map.of(1, testUserDto));
+
+        // When & Then
+        mockMvc.perform(post("/api/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(1))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.1.userId").value(1))
+                .andExpect(jsonPath("$.1.firstName").value("John"));
+
+        verify(userService).findAllByIds(anyList());
+    }
+
     @Test
     void testSave_ShouldCreateUser() throws Exception {
         // Given
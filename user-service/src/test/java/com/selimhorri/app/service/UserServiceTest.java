@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -113,6 +114,20 @@ class UserServiceTest {
         verify(userRepository).findById(userId);
     }
 
+    @Test
+    void testFindAllByIds_ShouldReturnUsersKeyedById() {
+        // Given
+        when(userRepository.findAllByUserIdIn(anyCollection())).thenReturn(Arrays.asList(testUser));
+
+        // When
+        Map<Integer, UserDto> result = userService.findAllByIds(Arrays.asList(1, 1));
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals("John", result.get(1).getFirstName());
+        verify(userRepository).findAllByUserIdIn(anyCollection());
+    }
+
     @Test
     void testFindById_WhenUserNotExists_ShouldThrowException() {
         // Given